@@ -0,0 +1,137 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DisplayCharacterGrid {
+    private final int width;
+    private final int height;
+    private final char[] characters;
+    private final int[] rowLengths;
+    private final String[] lines;
+    private final boolean[] dirtyRows;
+    private int lineCount;
+    private boolean dirty;
+
+    public DisplayCharacterGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        characters = new char[width * height];
+        rowLengths = new int[height];
+        lines = new String[height];
+        dirtyRows = new boolean[height];
+        Arrays.fill(characters, ' ');
+        Arrays.fill(lines, "");
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void setCharacters(int x, int y, String text) {
+        int start = Math.max(0, x);
+        int end = Math.min(width, x + text.length());
+        if (y < 0 || y >= height || start >= end) {
+            return;
+        }
+        text.getChars(start - x, end - x, characters, y * width + start);
+        rowLengths[y] = Math.max(rowLengths[y], end);
+        lineCount = Math.max(lineCount, y + 1);
+        markDirty(y);
+    }
+
+    public void setLine(int y, String line) {
+        if (y < 0 || y >= height) {
+            return;
+        }
+        loadRow(y, line);
+        lineCount = Math.max(lineCount, y + 1);
+    }
+
+    public void clear() {
+        Arrays.fill(characters, ' ');
+        Arrays.fill(rowLengths, 0);
+        lineCount = 0;
+        for (int y = 0; y < height; y++) {
+            markDirty(y);
+        }
+    }
+
+    public void load(List<String> data) {
+        for (int y = 0; y < height; y++) {
+            String line = data != null && y < data.size() ? data.get(y) : null;
+            if (dirtyRows[y] || line == null || line.length() > width || !line.equals(lines[y])) {
+                loadRow(y, line);
+            }
+        }
+        lineCount = data != null ? Math.min(height, data.size()) : 0;
+    }
+
+    public void copyFrom(DisplayCharacterGrid other) {
+        Arrays.fill(characters, ' ');
+        int copiedWidth = Math.min(width, other.width);
+        for (int y = 0; y < height; y++) {
+            if (y < other.height) {
+                System.arraycopy(other.characters, y * other.width, characters, y * width, copiedWidth);
+                rowLengths[y] = Math.min(width, other.rowLengths[y]);
+            } else {
+                rowLengths[y] = 0;
+            }
+            markDirty(y);
+        }
+        lineCount = Math.min(height, other.lineCount);
+    }
+
+    public List<String> toLines() {
+        if (dirty) {
+            for (int y = 0; y < height; y++) {
+                if (dirtyRows[y]) {
+                    lines[y] = getRow(y);
+                    dirtyRows[y] = false;
+                }
+            }
+            dirty = false;
+        }
+        return new ArrayList<>(Arrays.asList(lines));
+    }
+
+    private void loadRow(int y, String line) {
+        int length = line != null ? Math.min(width, line.length()) : 0;
+        int rowStart = y * width;
+        if (length > 0) {
+            line.getChars(0, length, characters, rowStart);
+        }
+        Arrays.fill(characters, rowStart + length, rowStart + width, ' ');
+        rowLengths[y] = length;
+        if (line != null && length == line.length()) {
+            lines[y] = line;
+            dirtyRows[y] = false;
+        } else {
+            markDirty(y);
+        }
+    }
+
+    private String getRow(int y) {
+        return new String(characters, y * width, rowLengths[y]);
+    }
+
+    private void markDirty(int y) {
+        dirtyRows[y] = true;
+        dirty = true;
+    }
+}
@@ -0,0 +1,126 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class DisplayCommandLog {
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] entries;
+    private int size;
+    private int sharedSize;
+    private Object index;
+
+    public DisplayCommandLog() {
+        entries = new String[MIN_CAPACITY];
+    }
+
+    public DisplayCommandLog(List<String> entries) {
+        replace(entries);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String get(int position) {
+        if (position >= size) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size);
+        }
+        return entries[position];
+    }
+
+    public List<String> getEntries() {
+        sharedSize = size;
+        return new EntriesView(entries, size);
+    }
+
+    public void append(String entry) {
+        ensureCapacity(size + 1);
+        entries[size++] = entry;
+    }
+
+    public void appendAll(List<String> newEntries) {
+        ensureCapacity(size + newEntries.size());
+        for (String entry : newEntries) {
+            entries[size++] = entry;
+        }
+    }
+
+    public void replaceRange(int from, int to, List<String> newEntries) {
+        int newSize = size - (to - from) + newEntries.size();
+        if (from < sharedSize || newSize > entries.length) {
+            String[] ownedEntries = new String[getCapacity(newSize)];
+            System.arraycopy(entries, 0, ownedEntries, 0, from);
+            System.arraycopy(entries, to, ownedEntries, from + newEntries.size(), size - to);
+            entries = ownedEntries;
+            sharedSize = 0;
+        } else {
+            System.arraycopy(entries, to, entries, from + newEntries.size(), size - to);
+            if (newSize < size) {
+                Arrays.fill(entries, newSize, size, null);
+            }
+        }
+        for (int i = 0; i < newEntries.size(); i++) {
+            entries[from + i] = newEntries.get(i);
+        }
+        size = newSize;
+    }
+
+    public void replace(List<String> newEntries) {
+        int newSize = newEntries != null ? newEntries.size() : 0;
+        entries = new String[getCapacity(newSize)];
+        for (int i = 0; i < newSize; i++) {
+            entries[i] = newEntries.get(i);
+        }
+        size = newSize;
+        sharedSize = 0;
+        index = null;
+    }
+
+    public Object getIndex() {
+        return index;
+    }
+
+    public void setIndex(Object index) {
+        this.index = index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > entries.length) {
+            entries = Arrays.copyOf(entries, getCapacity(capacity));
+            sharedSize = 0;
+        }
+    }
+
+    private static int getCapacity(int size) {
+        return Math.max(MIN_CAPACITY, size * 3 / 2);
+    }
+
+    private static final class EntriesView extends AbstractList<String> implements RandomAccess {
+        private final String[] entries;
+        private final int size;
+
+        private EntriesView(String[] entries, int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        @Override
+        public String get(int position) {
+            if (position >= size) {
+                throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size);
+            }
+            return entries[position];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
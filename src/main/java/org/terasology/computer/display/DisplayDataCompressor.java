@@ -0,0 +1,123 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public final class DisplayDataCompressor {
+    public static final int COMPRESSION_THRESHOLD = 2048;
+
+    private static final ThreadLocal<CompressionContext> CONTEXT = ThreadLocal.withInitial(CompressionContext::new);
+
+    private DisplayDataCompressor() {
+    }
+
+    public static byte[] compress(List<String> data) {
+        if (data == null || getPayloadSize(data) < COMPRESSION_THRESHOLD) {
+            return null;
+        }
+        return CONTEXT.get().compress(data);
+    }
+
+    public static List<String> decompress(byte[] compressedData) {
+        return CONTEXT.get().decompress(compressedData);
+    }
+
+    private static int getPayloadSize(List<String> data) {
+        int size = 0;
+        for (String entry : data) {
+            if (entry != null) {
+                size += entry.length();
+            }
+        }
+        return size;
+    }
+
+    private static final class CompressionContext {
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final Inflater inflater = new Inflater();
+        private final ReusableBuffer serialized = new ReusableBuffer();
+        private final ReusableBuffer compressed = new ReusableBuffer();
+        private final byte[] chunk = new byte[8192];
+        private int readPosition;
+
+        private byte[] compress(List<String> data) {
+            serialized.reset();
+            writeUnsigned(data.size());
+            for (String entry : data) {
+                byte[] bytes = entry != null ? entry.getBytes(StandardCharsets.UTF_8) : new byte[0];
+                writeUnsigned(bytes.length);
+                serialized.write(bytes, 0, bytes.length);
+            }
+
+            compressed.reset();
+            deflater.reset();
+            deflater.setInput(serialized.getBuffer(), 0, serialized.size());
+            deflater.finish();
+            while (!deflater.finished()) {
+                compressed.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return compressed.toByteArray();
+        }
+
+        private List<String> decompress(byte[] compressedData) {
+            serialized.reset();
+            inflater.reset();
+            inflater.setInput(compressedData);
+            try {
+                while (!inflater.finished()) {
+                    int count = inflater.inflate(chunk);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalArgumentException("Truncated display data");
+                    }
+                    serialized.write(chunk, 0, count);
+                }
+            } catch (DataFormatException exp) {
+                throw new IllegalArgumentException("Corrupted display data", exp);
+            }
+
+            byte[] buffer = serialized.getBuffer();
+            readPosition = 0;
+            int count = readUnsigned(buffer);
+            List<String> data = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = readUnsigned(buffer);
+                data.add(new String(buffer, readPosition, length, StandardCharsets.UTF_8));
+                readPosition += length;
+            }
+            return data;
+        }
+
+        private void writeUnsigned(int value) {
+            while ((value & ~0x7f) != 0) {
+                serialized.write((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            serialized.write(value);
+        }
+
+        private int readUnsigned(byte[] buffer) {
+            int result = 0;
+            int shift = 0;
+            int value;
+            do {
+                value = buffer[readPosition++] & 0xff;
+                result |= (value & 0x7f) << shift;
+                shift += 7;
+            } while ((value & 0x80) != 0 && shift < 35);
+            return result;
+        }
+    }
+
+    private static final class ReusableBuffer extends ByteArrayOutputStream {
+        private byte[] getBuffer() {
+            return buf;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.google.common.collect.Lists;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.terasology.engine.math.Side;
+import org.terasology.engine.network.NoReplicate;
 import org.terasology.engine.network.Replicate;
 import org.terasology.gestalt.entitysystem.component.Component;
 
@@ -15,7 +16,9 @@ import java.util.List;
 public class DisplayComponent implements Component<DisplayComponent> {
     public Vector3i monitorSize = new Vector3i();
     public Side front;
+    @NoReplicate
     public String mode;
+    @NoReplicate
     public List<String> data = Lists.newArrayList();
 
     public DisplayComponent() {
@@ -57,7 +60,6 @@ public class DisplayComponent implements Component<DisplayComponent> {
         this.monitorSize.set(other.monitorSize);
         this.front = other.front;
         this.mode = other.mode;
-        this.data.clear();
-        this.data.addAll(other.data);
+        this.data = Lists.newArrayList(other.data);
     }
 }
@@ -5,6 +5,7 @@ package org.terasology.computer.display.component;
 import com.google.common.collect.Lists;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
+import org.terasology.computer.display.DisplayDataCompressor;
 import org.terasology.engine.math.Side;
 import org.terasology.gestalt.entitysystem.component.Component;
 
@@ -15,6 +16,7 @@ public class DisplayDataHolderComponent implements Component<DisplayDataHolderCo
     public Side front;
     public String mode;
     public List<String> data = Lists.newArrayList();
+    public byte[] compressedData;
 
     public DisplayDataHolderComponent() {
     }
@@ -23,7 +25,10 @@ public class DisplayDataHolderComponent implements Component<DisplayDataHolderCo
         this.monitorSize.set(monitorSize);
         this.front = front;
         this.mode = mode;
-        this.data.addAll(data);
+        this.compressedData = DisplayDataCompressor.compress(data);
+        if (compressedData == null) {
+            this.data.addAll(data);
+        }
     }
 
     public Vector3i getMonitorSize() {
@@ -39,7 +44,7 @@ public class DisplayDataHolderComponent implements Component<DisplayDataHolderCo
     }
 
     public List<String> getData() {
-        return data;
+        return compressedData != null ? DisplayDataCompressor.decompress(compressedData) : data;
     }
 
     @Override
@@ -49,5 +54,6 @@ public class DisplayDataHolderComponent implements Component<DisplayDataHolderCo
         this.mode = other.mode;
         this.data.clear();
         this.data.addAll(other.data);
+        this.compressedData = other.compressedData != null ? other.compressedData.clone() : null;
     }
 }
@@ -0,0 +1,51 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.event;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.OwnerEvent;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@OwnerEvent
+public class DisplayContentDeltaEvent implements Event {
+    private EntityRef monitor = EntityRef.NULL;
+    private int sequence;
+    private int keptLines;
+    private List<Integer> replacedIndices = new ArrayList<>();
+    private List<String> replacedLines = new ArrayList<>();
+    private List<String> appendedLines = new ArrayList<>();
+
+    public DisplayContentDeltaEvent() {
+    }
+
+    public DisplayContentDeltaEvent(EntityRef monitor, int sequence, int keptLines, List<Integer> replacedIndices,
+                                    List<String> replacedLines, List<String> appendedLines) {
+        this.monitor = monitor;
+        this.sequence = sequence;
+        this.keptLines = keptLines;
+        this.replacedIndices = replacedIndices;
+        this.replacedLines = replacedLines;
+        this.appendedLines = appendedLines;
+    }
+
+    public EntityRef getMonitor() {
+        return monitor;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public List<String> applyTo(List<String> data) {
+        List<String> result = new ArrayList<>(keptLines + appendedLines.size());
+        result.addAll(data.subList(0, Math.min(keptLines, data.size())));
+        for (int i = 0; i < replacedIndices.size(); i++) {
+            result.set(replacedIndices.get(i), replacedLines.get(i));
+        }
+        result.addAll(appendedLines);
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.event;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.NetworkEvent;
+import org.terasology.engine.network.ServerEvent;
+
+@ServerEvent
+public class DisplayContentResyncRequestEvent extends NetworkEvent {
+    private EntityRef monitor = EntityRef.NULL;
+
+    public DisplayContentResyncRequestEvent() {
+    }
+
+    public DisplayContentResyncRequestEvent(EntityRef instigator, EntityRef monitor) {
+        super(instigator);
+        this.monitor = monitor;
+    }
+
+    public EntityRef getMonitor() {
+        return monitor;
+    }
+}
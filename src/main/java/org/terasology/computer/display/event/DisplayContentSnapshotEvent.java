@@ -0,0 +1,47 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.event;
+
+import org.terasology.computer.display.DisplayDataCompressor;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.OwnerEvent;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@OwnerEvent
+public class DisplayContentSnapshotEvent implements Event {
+    private EntityRef monitor = EntityRef.NULL;
+    private int sequence;
+    private String mode;
+    private List<String> data = new ArrayList<>();
+    private byte[] compressedData;
+
+    public DisplayContentSnapshotEvent() {
+    }
+
+    public DisplayContentSnapshotEvent(EntityRef monitor, int sequence, String mode, List<String> data) {
+        this.monitor = monitor;
+        this.sequence = sequence;
+        this.mode = mode;
+        this.compressedData = DisplayDataCompressor.compress(data);
+        this.data = compressedData != null ? new ArrayList<>() : data;
+    }
+
+    public EntityRef getMonitor() {
+        return monitor;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public List<String> getData() {
+        return compressedData != null ? DisplayDataCompressor.decompress(compressedData) : data;
+    }
+}
@@ -0,0 +1,29 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.event;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.OwnerEvent;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+@OwnerEvent
+public class DisplayContentStaleEvent implements Event {
+    private EntityRef monitor = EntityRef.NULL;
+    private int sequence;
+
+    public DisplayContentStaleEvent() {
+    }
+
+    public DisplayContentStaleEvent(EntityRef monitor, int sequence) {
+        this.monitor = monitor;
+        this.sequence = sequence;
+    }
+
+    public EntityRef getMonitor() {
+        return monitor;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+}
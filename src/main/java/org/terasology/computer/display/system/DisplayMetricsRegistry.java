@@ -0,0 +1,26 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DisplayMetricsRegistry {
+    void recordRender(EntityRef monitorEntity, String mode, long renderNanos);
+
+    void recordDisplayUpdate(EntityRef monitorEntity, long uploadedBytes);
+
+    void setTextureMemory(long textureBytes);
+
+    void recordSave(EntityRef monitorEntity, String mode, List<String> data);
+
+    Collection<DisplayMonitorMetrics> getMonitorMetrics();
+
+    Collection<DisplayRendererMetrics> getRendererMetrics();
+
+    long getUploadedTextureBytes();
+
+    long getTextureMemory();
+}
@@ -0,0 +1,135 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system;
+
+import org.terasology.computer.display.component.DisplayComponent;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.console.commandSystem.annotations.CommandParam;
+import org.terasology.engine.logic.permission.PermissionManager;
+import org.terasology.engine.network.NetworkSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RegisterSystem(RegisterMode.ALWAYS)
+@Share(DisplayMetricsRegistry.class)
+public class DisplayMetricsSystem extends BaseComponentSystem implements DisplayMetricsRegistry {
+    private static final int DEFAULT_REPORT_SIZE = 10;
+
+    @In
+    private NetworkSystem networkSystem;
+
+    private Map<EntityRef, DisplayMonitorMetrics> monitorMetrics = new HashMap<>();
+    private Map<String, DisplayRendererMetrics> rendererMetrics = new HashMap<>();
+    private long uploadedTextureBytes;
+    private long textureMemory;
+
+    @Override
+    public void recordRender(EntityRef monitorEntity, String mode, long renderNanos) {
+        getMetrics(monitorEntity).recordRender(mode, renderNanos);
+        String renderer = mode != null ? mode.split(":", 2)[0] : "Default";
+        rendererMetrics.computeIfAbsent(renderer, DisplayRendererMetrics::new).recordRender(renderNanos);
+    }
+
+    @Override
+    public void recordDisplayUpdate(EntityRef monitorEntity, long uploadedBytes) {
+        getMetrics(monitorEntity).recordDisplayUpdate(uploadedBytes);
+        uploadedTextureBytes += uploadedBytes;
+    }
+
+    @Override
+    public void setTextureMemory(long textureBytes) {
+        textureMemory = textureBytes;
+    }
+
+    @Override
+    public void recordSave(EntityRef monitorEntity, String mode, List<String> data) {
+        getMetrics(monitorEntity).recordSave(mode, data);
+    }
+
+    @Override
+    public Collection<DisplayMonitorMetrics> getMonitorMetrics() {
+        return monitorMetrics.values();
+    }
+
+    @Override
+    public Collection<DisplayRendererMetrics> getRendererMetrics() {
+        return rendererMetrics.values();
+    }
+
+    @Override
+    public long getUploadedTextureBytes() {
+        return uploadedTextureBytes;
+    }
+
+    @Override
+    public long getTextureMemory() {
+        return textureMemory;
+    }
+
+    @ReceiveEvent
+    public void onDisplayChanged(OnChangedComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        if (networkSystem.getMode().isAuthority()) {
+            recordSave(monitorEntity, monitor.getMode(), monitor.getData());
+        }
+    }
+
+    @ReceiveEvent
+    public void onDisplayRemoved(BeforeRemoveComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        monitorMetrics.remove(monitorEntity);
+    }
+
+    @Command(shortDescription = "Lists the most expensive displays",
+            helpText = "Lists rendering and replication statistics of the displays, most expensive first.",
+            requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String displayMetrics(@CommandParam(value = "count", required = false) Integer count) {
+        return createReport(count);
+    }
+
+    @Command(shortDescription = "Lists the most expensive displays on the server",
+            helpText = "Lists save and payload statistics of the displays on the server, most expensive first.",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String displayServerMetrics(@CommandParam(value = "count", required = false) Integer count) {
+        return createReport(count);
+    }
+
+    private String createReport(Integer count) {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("Texture memory: %d KB, uploaded: %d KB%n", textureMemory / 1024, uploadedTextureBytes / 1024));
+        for (DisplayRendererMetrics renderer : rendererMetrics.values()) {
+            result.append(String.format("%s: %d renders, %.2f ms average%n", renderer.getRenderer(), renderer.getRenderCount(),
+                    renderer.getRenderNanos() / 1_000_000f / Math.max(1, renderer.getRenderCount())));
+        }
+
+        List<DisplayMonitorMetrics> monitors = new ArrayList<>(monitorMetrics.values());
+        monitors.sort(Comparator.comparingLong(DisplayMonitorMetrics::getRenderNanos)
+                .thenComparingLong(DisplayMonitorMetrics::getPayloadBytes)
+                .thenComparingLong(DisplayMonitorMetrics::getSaveCount).reversed());
+        int limit = Math.min(monitors.size(), count != null ? count : DEFAULT_REPORT_SIZE);
+        for (int i = 0; i < limit; i++) {
+            DisplayMonitorMetrics monitor = monitors.get(i);
+            result.append(String.format("%d %s: %d renders in %.1f ms, %.1f updates/s, %d KB uploaded, %d saves, %d commands, %d bytes%n",
+                    monitor.getMonitorEntity().getId(), monitor.getMode(), monitor.getRenderCount(), monitor.getRenderNanos() / 1_000_000f,
+                    monitor.getUpdatesPerSecond(), monitor.getUploadedBytes() / 1024, monitor.getSaveCount(), monitor.getCommandCount(),
+                    monitor.getPayloadBytes()));
+        }
+        return result.toString();
+    }
+
+    private DisplayMonitorMetrics getMetrics(EntityRef monitorEntity) {
+        return monitorMetrics.computeIfAbsent(monitorEntity, DisplayMonitorMetrics::new);
+    }
+}
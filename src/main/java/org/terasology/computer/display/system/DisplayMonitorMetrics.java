@@ -0,0 +1,132 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.List;
+
+public class DisplayMonitorMetrics {
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private final EntityRef monitorEntity;
+
+    private String mode;
+    private long renderCount;
+    private long renderNanos;
+    private long uploadedBytes;
+    private long updateCount;
+
+    private long saveCount;
+    private String savedMode;
+    private List<String> savedData;
+    private long payloadBytes;
+
+    private long rateWindowStart = System.nanoTime();
+    private int rateWindowUpdates;
+    private float updatesPerSecond;
+
+    public DisplayMonitorMetrics(EntityRef monitorEntity) {
+        this.monitorEntity = monitorEntity;
+    }
+
+    public void recordRender(String renderMode, long nanos) {
+        mode = renderMode;
+        renderCount++;
+        renderNanos += nanos;
+    }
+
+    public void recordDisplayUpdate(long bytes) {
+        uploadedBytes += bytes;
+        updateCount++;
+
+        long now = System.nanoTime();
+        long elapsed = now - rateWindowStart;
+        rateWindowUpdates++;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            updatesPerSecond = rateWindowUpdates * 1_000_000_000f / elapsed;
+            rateWindowStart = now;
+            rateWindowUpdates = 0;
+        }
+    }
+
+    public void recordSave(String saveMode, List<String> data) {
+        mode = saveMode;
+        saveCount++;
+        savedMode = saveMode;
+        savedData = data;
+        payloadBytes = -1;
+    }
+
+    public EntityRef getMonitorEntity() {
+        return monitorEntity;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public long getRenderCount() {
+        return renderCount;
+    }
+
+    public long getRenderNanos() {
+        return renderNanos;
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    public float getUpdatesPerSecond() {
+        if (System.nanoTime() - rateWindowStart > 2 * RATE_WINDOW_NANOS) {
+            return 0;
+        }
+        return updatesPerSecond;
+    }
+
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    public int getCommandCount() {
+        return savedData != null ? savedData.size() : 0;
+    }
+
+    public long getPayloadBytes() {
+        if (payloadBytes < 0) {
+            payloadBytes = getUtf8Length(savedMode);
+            if (savedData != null) {
+                for (String command : savedData) {
+                    payloadBytes += getUtf8Length(command);
+                }
+            }
+        }
+        return payloadBytes;
+    }
+
+    private static long getUtf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,30 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system;
+
+public class DisplayRendererMetrics {
+    private final String renderer;
+    private long renderCount;
+    private long renderNanos;
+
+    public DisplayRendererMetrics(String renderer) {
+        this.renderer = renderer;
+    }
+
+    public void recordRender(long nanos) {
+        renderCount++;
+        renderNanos += nanos;
+    }
+
+    public String getRenderer() {
+        return renderer;
+    }
+
+    public long getRenderCount() {
+        return renderCount;
+    }
+
+    public long getRenderNanos() {
+        return renderNanos;
+    }
+}
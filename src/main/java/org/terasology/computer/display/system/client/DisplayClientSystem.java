@@ -2,10 +2,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.display.system.client;
 
+import org.joml.Vector2i;
 import org.joml.Vector3f;
 import org.joml.Vector3i;
+import org.joml.Vector3ic;
 import org.terasology.computer.display.component.DisplayComponent;
 import org.terasology.computer.display.component.DisplayRenderComponent;
+import org.terasology.computer.display.system.DisplayMetricsRegistry;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.core.subsystem.DisplayDevice;
 import org.terasology.engine.entitySystem.entity.EntityBuilder;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
@@ -15,39 +20,311 @@ import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedCompon
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterMode;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.config.ModuleConfigManager;
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.math.Side;
 import org.terasology.engine.registry.In;
 import org.terasology.engine.registry.Share;
-import org.terasology.engine.rendering.assets.material.Material;
 import org.terasology.engine.rendering.assets.mesh.MeshBuilder;
+import org.terasology.engine.rendering.cameras.Camera;
 import org.terasology.engine.rendering.logic.MeshComponent;
+import org.terasology.engine.rendering.world.WorldRenderer;
 import org.terasology.engine.utilities.Assets;
 import org.terasology.engine.world.block.BlockPart;
 import org.terasology.engine.world.block.shapes.BlockMeshPart;
 import org.terasology.engine.world.block.shapes.BlockShape;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.joml.geom.AABBf;
 import org.terasology.nui.Color;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RegisterSystem(RegisterMode.CLIENT)
 @Share(DisplayRenderModeRegistry.class)
-public class DisplayClientSystem extends BaseComponentSystem implements DisplayRenderModeRegistry {
+public class DisplayClientSystem extends BaseComponentSystem implements DisplayRenderModeRegistry, UpdateSubscriberSystem {
+    private static final int DEFAULT_MAX_REFRESH_RATE = 20;
+    private static final int MAX_DEFAULT_RENDER_THREADS = 4;
+    private static final int DEFAULT_LOD_CUTOFF_DISTANCE = 64;
+    private static final int MAX_DOWNSCALE = 8;
+    private static final long LOD_UPDATE_INTERVAL = 250;
+    private static final int DEFAULT_MAX_UNUSED_MATERIALS = 16;
+    private static final int DEFAULT_MEMORY_BUDGET_MB = 256;
+    private static final int MAX_POOLED_TEXTURE_BUFFERS = 8;
+
     private Map<String, DisplayRenderer> computerMonitorRendererMap = new HashMap<>();
 
     @In
     private EntityManager entityManager;
+    @In
+    private Time time;
+    @In
+    private ModuleConfigManager moduleConfigManager;
+    @In
+    private WorldRenderer worldRenderer;
+    @In
+    private DisplayDevice displayDevice;
+    @In
+    private DisplayMetricsRegistry displayMetricsRegistry;
 
     private DefaultDisplayRenderer defaultDisplayRenderer = new DefaultDisplayRenderer();
+    private Map<EntityRef, DisplayScreen> displayScreens = new HashMap<>();
+    private Set<EntityRef> dirtyMonitors = new LinkedHashSet<>();
+    private Set<EntityRef> renderingMonitors = new HashSet<>();
+    private DisplayRenderService renderService;
+    private DisplayTextureBufferPool textureBufferPool = new DisplayTextureBufferPool(MAX_POOLED_TEXTURE_BUFFERS);
+    private DisplayMaterialCache materialCache;
+    private DisplayMeshCache meshCache = new DisplayMeshCache();
+    private BlockShape cubeShape;
+    private long minimumRefreshInterval;
+    private float lodCutoffDistance;
+    private long lastLodUpdateTime;
+    private long memoryBudget;
+
+    @Override
+    public void initialise() {
+        int maxRefreshRate = moduleConfigManager.getIntVariable("ComputerMonitors", "display.maxRefreshRate", DEFAULT_MAX_REFRESH_RATE);
+        minimumRefreshInterval = maxRefreshRate > 0 ? 1000 / maxRefreshRate : 0;
+
+        int defaultRenderThreads = Math.max(1, Math.min(MAX_DEFAULT_RENDER_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+        int renderThreads = moduleConfigManager.getIntVariable("ComputerMonitors", "display.renderThreads", defaultRenderThreads);
+        renderService = new DisplayRenderService(Math.max(1, renderThreads), textureBufferPool);
+
+        int maxUnusedMaterials = moduleConfigManager.getIntVariable("ComputerMonitors", "display.maxUnusedMaterials", DEFAULT_MAX_UNUSED_MATERIALS);
+        materialCache = new DisplayMaterialCache(Math.max(0, maxUnusedMaterials));
+
+        lodCutoffDistance = moduleConfigManager.getIntVariable("ComputerMonitors", "display.lodCutoffDistance", DEFAULT_LOD_CUTOFF_DISTANCE);
+        memoryBudget = moduleConfigManager.getIntVariable("ComputerMonitors", "display.memoryBudgetMB", DEFAULT_MEMORY_BUDGET_MB) * 1024L * 1024L;
+    }
+
+    @Override
+    public void shutdown() {
+        renderService.shutdown();
+        materialCache.dispose();
+        textureBufferPool.clear();
+        meshCache.dispose();
+    }
 
     @Override
     public void registerComputerMonitorRenderer(String modePrefix, DisplayRenderer displayRenderer) {
         computerMonitorRendererMap.put(modePrefix, displayRenderer);
     }
 
+    @Override
+    public void update(float delta) {
+        uploadRenderedFrames();
+
+        long now = time.getRealTimeInMs();
+        if (now - lastLodUpdateTime >= LOD_UPDATE_INTERVAL) {
+            lastLodUpdateTime = now;
+            updateLevelsOfDetail(now);
+            enforceMemoryBudget(now);
+        }
+
+        Camera camera = worldRenderer.getActiveCamera();
+        Iterator<EntityRef> dirtyIterator = dirtyMonitors.iterator();
+        while (dirtyIterator.hasNext()) {
+            EntityRef monitorEntity = dirtyIterator.next();
+            DisplayScreen displayScreen = displayScreens.get(monitorEntity);
+            DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+            if (displayScreen == null || monitor == null) {
+                dirtyIterator.remove();
+            } else if (!displayScreen.isSuspended() && !renderingMonitors.contains(monitorEntity)
+                    && now - displayScreen.getLastRenderTime() >= minimumRefreshInterval
+                    && isScreenVisible(camera, monitorEntity, monitor)) {
+                dirtyIterator.remove();
+                String mode = monitor.getMode();
+                DisplayContentKey contentKey = new DisplayContentKey(mode, displayScreen.getDownscale(), new ArrayList<>(monitor.getData()));
+                DisplayMaterialCache.Entry cachedEntry = materialCache.reuse(displayScreen.getMaterialEntry(), contentKey);
+                if (cachedEntry != null) {
+                    showMaterialEntry(monitorEntity, displayScreen, cachedEntry, now);
+                    displayMetricsRegistry.recordDisplayUpdate(monitorEntity, 0);
+                } else {
+                    renderingMonitors.add(monitorEntity);
+                    DisplayRenderer displayRenderer = getRenderer(mode);
+                    Vector2i resolution = displayRenderer.getResolution(mode);
+                    DisplayRaster raster = displayScreen.getRaster(resolution.x, resolution.y);
+                    renderService.submit(monitorEntity, displayRenderer, raster, contentKey);
+                }
+            }
+        }
+    }
+
+    private boolean isScreenVisible(Camera camera, EntityRef monitorEntity, DisplayComponent monitor) {
+        LocationComponent location = monitorEntity.getComponent(LocationComponent.class);
+        if (camera == null || location == null) {
+            return true;
+        }
+
+        Vector3i monitorSize = monitor.getMonitorSize();
+        Vector3f min = location.getWorldPosition(new Vector3f()).sub(0.5f, 0.5f, 0.5f);
+        Vector3f max = new Vector3f(min).add(monitorSize.x, monitorSize.y, monitorSize.z);
+        if (!camera.hasInSight(new AABBf(min, max))) {
+            return false;
+        }
+
+        Vector3ic frontDirection = monitor.getFront().direction();
+        Vector3f screenCenter = new Vector3f(min).add(max).mul(0.5f).add(
+                frontDirection.x() * monitorSize.x / 2f,
+                frontDirection.y() * monitorSize.y / 2f,
+                frontDirection.z() * monitorSize.z / 2f);
+        Vector3f toCamera = new Vector3f(camera.getPosition()).sub(screenCenter);
+        return toCamera.dot(frontDirection.x(), frontDirection.y(), frontDirection.z()) > 0;
+    }
+
+    private void updateLevelsOfDetail(long now) {
+        Camera camera = worldRenderer.getActiveCamera();
+        if (camera == null) {
+            return;
+        }
+
+        Vector3f cameraPosition = camera.getPosition();
+        float pixelsPerBlockAtUnitDistance = displayDevice.getHeight() * camera.getProjectionMatrix().m11() / 2;
+        Vector3f monitorCenter = new Vector3f();
+
+        for (Map.Entry<EntityRef, DisplayScreen> displayScreenEntry : displayScreens.entrySet()) {
+            EntityRef monitorEntity = displayScreenEntry.getKey();
+            DisplayScreen displayScreen = displayScreenEntry.getValue();
+            DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+            LocationComponent location = monitorEntity.getComponent(LocationComponent.class);
+            if (monitor == null || location == null) {
+                continue;
+            }
+
+            Vector3i monitorSize = monitor.getMonitorSize();
+            location.getWorldPosition(monitorCenter).add(
+                    (monitorSize.x - 1) / 2f, (monitorSize.y - 1) / 2f, (monitorSize.z - 1) / 2f);
+            float distance = monitorCenter.distance(cameraPosition);
+
+            boolean suspended = lodCutoffDistance > 0 && distance > lodCutoffDistance;
+            displayScreen.setSuspended(suspended);
+            if (suspended) {
+                continue;
+            }
+            if (isScreenVisible(camera, monitorEntity, monitor)) {
+                displayScreen.setLastVisibleTime(now);
+            }
+
+            Vector2i resolution = getRenderer(monitor.getMode()).getResolution(monitor.getMode());
+            float texelsPerBlock = (float) Math.max(resolution.x, resolution.y)
+                    / Math.max(monitorSize.x, Math.max(monitorSize.y, monitorSize.z));
+            float projectedPixelsPerBlock = pixelsPerBlockAtUnitDistance / Math.max(distance, 1f);
+
+            int downscale = getDownscale(texelsPerBlock / projectedPixelsPerBlock);
+            if (downscale != displayScreen.getDownscale()) {
+                displayScreen.setDownscale(downscale);
+                dirtyMonitors.add(monitorEntity);
+            }
+        }
+    }
+
+    private void enforceMemoryBudget(long now) {
+        if (memoryBudget <= 0) {
+            return;
+        }
+
+        long rasterBytes = 0;
+        for (DisplayScreen displayScreen : displayScreens.values()) {
+            rasterBytes += displayScreen.getRasterBytes();
+        }
+        if (materialCache.getTextureBytes() + rasterBytes <= memoryBudget) {
+            return;
+        }
+
+        materialCache.trimUnused();
+        if (materialCache.getTextureBytes() + rasterBytes <= memoryBudget) {
+            return;
+        }
+
+        List<Map.Entry<EntityRef, DisplayScreen>> candidates = new ArrayList<>();
+        for (Map.Entry<EntityRef, DisplayScreen> displayScreenEntry : displayScreens.entrySet()) {
+            DisplayScreen displayScreen = displayScreenEntry.getValue();
+            if (!displayScreen.isEvicted() && displayScreen.getLastVisibleTime() < now
+                    && !renderingMonitors.contains(displayScreenEntry.getKey())) {
+                candidates.add(displayScreenEntry);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().getLastVisibleTime()));
+
+        for (Map.Entry<EntityRef, DisplayScreen> candidate : candidates) {
+            if (materialCache.getTextureBytes() + rasterBytes <= memoryBudget) {
+                break;
+            }
+            EntityRef monitorEntity = candidate.getKey();
+            DisplayScreen displayScreen = candidate.getValue();
+            DisplayMaterialCache.Entry previousEntry = displayScreen.getMaterialEntry();
+
+            rasterBytes -= displayScreen.getRasterBytes();
+            showMaterialEntry(monitorEntity, displayScreen, acquirePlaceholderMaterial(), displayScreen.getLastRenderTime());
+            displayScreen.evict();
+            materialCache.release(previousEntry);
+            materialCache.trimUnused();
+            dirtyMonitors.add(monitorEntity);
+        }
+    }
+
+    private DisplayMaterialCache.Entry acquirePlaceholderMaterial() {
+        DisplayContentKey contentKey = new DisplayContentKey(null, 1, Collections.emptyList());
+        DisplayMaterialCache.Entry entry = materialCache.reuse(null, contentKey);
+        if (entry == null) {
+            Vector2i resolution = defaultDisplayRenderer.getResolution(null);
+            DisplayRaster raster = new DisplayRaster(resolution.x, resolution.y, 1);
+            defaultDisplayRenderer.render(raster, null, null);
+            raster.flush(textureBufferPool);
+            entry = materialCache.store(null, contentKey, raster);
+            raster.releaseTextureData(textureBufferPool);
+        }
+        return entry;
+    }
+
+    private int getDownscale(float texelsPerPixel) {
+        int downscale = 1;
+        while (downscale < MAX_DOWNSCALE && texelsPerPixel >= downscale * 2) {
+            downscale *= 2;
+        }
+        return downscale;
+    }
+
+    private void uploadRenderedFrames() {
+        DisplayRenderService.RenderedFrame renderedFrame;
+        while ((renderedFrame = renderService.pollRenderedFrame()) != null) {
+            EntityRef monitorEntity = renderedFrame.getMonitorEntity();
+            renderingMonitors.remove(monitorEntity);
+
+            DisplayScreen displayScreen = displayScreens.get(monitorEntity);
+            if (displayScreen != null) {
+                displayMetricsRegistry.recordRender(monitorEntity, renderedFrame.getContentKey().getMode(), renderedFrame.getRenderNanos());
+            }
+            if (displayScreen != null && renderedFrame.isSuccessful()) {
+                long uploadedBytes = materialCache.getUploadedBytes();
+                DisplayMaterialCache.Entry entry = materialCache.store(displayScreen.getMaterialEntry(),
+                        renderedFrame.getContentKey(), renderedFrame.getRaster());
+                showMaterialEntry(monitorEntity, displayScreen, entry, time.getRealTimeInMs());
+                displayMetricsRegistry.recordDisplayUpdate(monitorEntity, materialCache.getUploadedBytes() - uploadedBytes);
+            }
+            renderedFrame.getRaster().releaseTextureData(textureBufferPool);
+        }
+        displayMetricsRegistry.setTextureMemory(materialCache.getTextureBytes());
+    }
+
+    private void showMaterialEntry(EntityRef monitorEntity, DisplayScreen displayScreen, DisplayMaterialCache.Entry entry, long renderTime) {
+        if (displayScreen.setMaterialEntry(entry, renderTime)) {
+            EntityRef screen = monitorEntity.getComponent(DisplayRenderComponent.class).screen;
+            MeshComponent mesh = screen.getComponent(MeshComponent.class);
+            mesh.material = displayScreen.getMaterial();
+            screen.saveComponent(mesh);
+        }
+    }
+
     @ReceiveEvent
     public void onMonitorAdded(OnAddedComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
         Vector3i monitorSize = monitor.getMonitorSize();
@@ -57,30 +334,31 @@ public class DisplayClientSystem extends BaseComponentSystem implements DisplayR
         DisplayRenderComponent computerRenderComponent = new DisplayRenderComponent();
 
         computerRenderComponent.monitorChassis = createChassisRenderingEntity(worldPosition, monitorSize, front);
-        computerRenderComponent.screen = createScreenRenderingEntity(worldPosition, monitorSize, front, monitor.getMode(),
-                monitor.getData());
+        computerRenderComponent.screen = createScreenRenderingEntity(monitorEntity, worldPosition, monitorSize, front);
         monitorEntity.addComponent(computerRenderComponent);
+        dirtyMonitors.add(monitorEntity);
     }
 
     @ReceiveEvent
     public void onMonitorDataUpdated(OnChangedComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
-        DisplayRenderComponent computerRender = monitorEntity.getComponent(DisplayRenderComponent.class);
-        EntityRef screen = computerRender.screen;
-        MeshComponent mesh = screen.getComponent(MeshComponent.class);
-        mesh.material.dispose();
-        mesh.material = createMaterial(monitor.getMode(), monitor.getData());
-        screen.saveComponent(mesh);
+        DisplayScreen displayScreen = displayScreens.get(monitorEntity);
+        if (displayScreen != null) {
+            dirtyMonitors.add(monitorEntity);
+        }
     }
 
-    private EntityRef createScreenRenderingEntity(Vector3f location, Vector3i monitorSize, Side front, String mode, List<String> data) {
-        MeshBuilder meshBuilder = new MeshBuilder();
-        addNormalizedMeshForSide(meshBuilder, front, monitorSize);
-
-        Material material = createMaterial(mode, data);
+    private EntityRef createScreenRenderingEntity(EntityRef monitorEntity, Vector3f location, Vector3i monitorSize, Side front) {
+        DisplayScreen displayScreen = new DisplayScreen();
+        displayScreen.setMaterialEntry(acquirePlaceholderMaterial(), 0);
+        displayScreens.put(monitorEntity, displayScreen);
 
         MeshComponent meshComponent = new MeshComponent();
-        meshComponent.mesh = meshBuilder.build();
-        meshComponent.material = material;
+        meshComponent.mesh = meshCache.acquire(monitorSize, front, false, () -> {
+            MeshBuilder meshBuilder = new MeshBuilder();
+            addNormalizedMeshForSide(meshBuilder, front, monitorSize);
+            return meshBuilder.build();
+        });
+        meshComponent.material = displayScreen.getMaterial();
         meshComponent.translucent = false;
         meshComponent.hideFromOwner = false;
         meshComponent.color = Color.WHITE;
@@ -95,36 +373,28 @@ public class DisplayClientSystem extends BaseComponentSystem implements DisplayR
         return entityBuilder.build();
     }
 
-    private Material createMaterial(String mode, List<String> data) {
-        Material material = render(mode, data);
-        if (material == null) {
-            material = defaultDisplayRenderer.renderMaterial(mode, data);
-        }
-        return material;
-    }
-
-    private Material render(String mode, List<String> data) {
+    private DisplayRenderer getRenderer(String mode) {
         if (mode != null) {
             for (Map.Entry<String, DisplayRenderer> keyComputerMonitorRenderer : computerMonitorRendererMap.entrySet()) {
                 if (mode.startsWith(keyComputerMonitorRenderer.getKey())) {
-                    return keyComputerMonitorRenderer.getValue().renderMaterial(mode, data);
+                    return keyComputerMonitorRenderer.getValue();
                 }
             }
         }
-        return null;
+        return defaultDisplayRenderer;
     }
 
     private EntityRef createChassisRenderingEntity(Vector3f location, Vector3i monitorSize, Side front) {
-        MeshBuilder meshBuilder = new MeshBuilder();
-
-        for (Side side : Side.values()) {
-            if (side != front) {
-                addMeshForSide(meshBuilder, side, monitorSize);
-            }
-        }
-
         MeshComponent meshComponent = new MeshComponent();
-        meshComponent.mesh = meshBuilder.build();
+        meshComponent.mesh = meshCache.acquire(monitorSize, front, true, () -> {
+            MeshBuilder meshBuilder = new MeshBuilder();
+            for (Side side : Side.values()) {
+                if (side != front) {
+                    addMeshForSide(meshBuilder, side, monitorSize);
+                }
+            }
+            return meshBuilder.build();
+        });
         meshComponent.material = Assets.getMaterial("ComputerMonitors:ComputerMonitor").get();
         meshComponent.translucent = false;
         meshComponent.hideFromOwner = false;
@@ -141,8 +411,7 @@ public class DisplayClientSystem extends BaseComponentSystem implements DisplayR
     }
 
     private void addMeshForSide(MeshBuilder meshBuilder, Side side, Vector3i monitorSize) {
-        BlockShape blockShape = Assets.get("engine:cube", BlockShape.class).get();
-        BlockMeshPart meshPart = blockShape.getMeshPart(BlockPart.fromSide(side));
+        BlockMeshPart meshPart = getCubeShape().getMeshPart(BlockPart.fromSide(side));
 
         meshBuilder.addPoly(
                 getTopLeft(monitorSize, meshPart),
@@ -157,8 +426,7 @@ public class DisplayClientSystem extends BaseComponentSystem implements DisplayR
     }
 
     private void addNormalizedMeshForSide(MeshBuilder meshBuilder, Side side, Vector3i monitorSize) {
-        BlockShape blockShape = Assets.get("engine:cube", BlockShape.class).get();
-        BlockMeshPart meshPart = blockShape.getMeshPart(BlockPart.fromSide(side));
+        BlockMeshPart meshPart = getCubeShape().getMeshPart(BlockPart.fromSide(side));
 
         Vector3f[] sideVectors = new Vector3f[]{
                 getTopLeft(monitorSize, meshPart),
@@ -180,6 +448,13 @@ public class DisplayClientSystem extends BaseComponentSystem implements DisplayR
         meshBuilder.addTexCoord(0, 1);
     }
 
+    private BlockShape getCubeShape() {
+        if (cubeShape == null) {
+            cubeShape = Assets.get("engine:cube", BlockShape.class).get();
+        }
+        return cubeShape;
+    }
+
     private int findIndexOfTopLeft(Vector3f[] sideVectors) {
         float maxY = Float.MIN_VALUE;
         for (Vector3f sideVector : sideVectors) {
@@ -234,10 +509,11 @@ public class DisplayClientSystem extends BaseComponentSystem implements DisplayR
     @ReceiveEvent
     public void onMonitorRemoved(BeforeRemoveComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
         DisplayRenderComponent renderComponent = monitorEntity.getComponent(DisplayRenderComponent.class);
-        renderComponent.monitorChassis.getComponent(MeshComponent.class).mesh.dispose();
+        meshCache.release(monitor.getMonitorSize(), monitor.getFront(), true);
         renderComponent.monitorChassis.destroy();
-        renderComponent.screen.getComponent(MeshComponent.class).mesh.dispose();
-        renderComponent.screen.getComponent(MeshComponent.class).material.dispose();
+        meshCache.release(monitor.getMonitorSize(), monitor.getFront(), false);
+        materialCache.release(displayScreens.remove(monitorEntity).getMaterialEntry());
+        dirtyMonitors.remove(monitorEntity);
         renderComponent.screen.destroy();
         monitorEntity.removeComponent(DisplayRenderComponent.class);
     }
@@ -0,0 +1,52 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class DisplayContentKey {
+    private final String mode;
+    private final int downscale;
+    private final List<String> data;
+    private final int hashCode;
+
+    public DisplayContentKey(String mode, int downscale, List<String> data) {
+        this.mode = mode;
+        this.downscale = downscale;
+        this.data = data;
+        this.hashCode = Objects.hash(mode, downscale, data);
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public int getDownscale() {
+        return downscale;
+    }
+
+    public List<String> getData() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DisplayContentKey that = (DisplayContentKey) o;
+        return hashCode == that.hashCode
+                && downscale == that.downscale
+                && Objects.equals(mode, that.mode)
+                && Objects.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
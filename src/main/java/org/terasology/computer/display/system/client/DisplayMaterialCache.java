@@ -0,0 +1,144 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import org.terasology.engine.rendering.assets.material.Material;
+import org.terasology.engine.rendering.assets.material.MaterialData;
+import org.terasology.engine.rendering.assets.texture.Texture;
+import org.terasology.engine.rendering.assets.texture.TextureData;
+import org.terasology.engine.utilities.Assets;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class DisplayMaterialCache {
+    private final int maxUnusedEntries;
+    private final Map<DisplayContentKey, Entry> entries = new HashMap<>();
+    private final Map<DisplayContentKey, Entry> unusedEntries = new LinkedHashMap<>();
+    private long uploadedBytes;
+    private long textureBytes;
+
+    public DisplayMaterialCache(int maxUnusedEntries) {
+        this.maxUnusedEntries = maxUnusedEntries;
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    public long getTextureBytes() {
+        return textureBytes;
+    }
+
+    public Entry reuse(Entry previous, DisplayContentKey key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.refCount++ == 0) {
+            unusedEntries.remove(key);
+        }
+        release(previous);
+        return entry;
+    }
+
+    public Entry store(Entry previous, DisplayContentKey key, DisplayRaster raster) {
+        Entry entry = reuse(previous, key);
+        if (entry != null) {
+            return entry;
+        }
+
+        if (previous != null && previous.refCount == 1
+                && previous.width == raster.getWidth() && previous.height == raster.getHeight()) {
+            entries.remove(previous.key);
+            previous.key = key;
+            previous.texture.reload(createTextureData(raster));
+            uploadedBytes += previous.getByteSize();
+            entries.put(key, previous);
+            return previous;
+        }
+
+        release(previous);
+        entry = new Entry(key, raster.getWidth(), raster.getHeight(),
+                Assets.generateAsset(createTextureData(raster), Texture.class));
+        entries.put(key, entry);
+        uploadedBytes += entry.getByteSize();
+        textureBytes += entry.getByteSize();
+        return entry;
+    }
+
+    public void release(Entry entry) {
+        if (entry != null && --entry.refCount == 0) {
+            unusedEntries.put(entry.key, entry);
+            if (unusedEntries.size() > maxUnusedEntries) {
+                Iterator<Entry> eldest = unusedEntries.values().iterator();
+                Entry evicted = eldest.next();
+                eldest.remove();
+                entries.remove(evicted.key);
+                textureBytes -= evicted.getByteSize();
+                evicted.dispose();
+            }
+        }
+    }
+
+    public void trimUnused() {
+        for (Entry entry : unusedEntries.values()) {
+            entries.remove(entry.key);
+            textureBytes -= entry.getByteSize();
+            entry.dispose();
+        }
+        unusedEntries.clear();
+    }
+
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            entry.dispose();
+        }
+        entries.clear();
+        unusedEntries.clear();
+        textureBytes = 0;
+    }
+
+    private TextureData createTextureData(DisplayRaster raster) {
+        return new TextureData(raster.getWidth(), raster.getHeight(), new ByteBuffer[]{raster.getTextureData()},
+                Texture.WrapMode.REPEAT, Texture.FilterMode.NEAREST);
+    }
+
+    public static final class Entry {
+        private DisplayContentKey key;
+        private final int width;
+        private final int height;
+        private final Texture texture;
+        private final Material material;
+        private int refCount = 1;
+
+        private Entry(DisplayContentKey key, int width, int height, Texture texture) {
+            this.key = key;
+            this.width = width;
+            this.height = height;
+            this.texture = texture;
+
+            MaterialData terrainMatData = new MaterialData(Assets.getShader("engine:genericMeshMaterial").get());
+            terrainMatData.setParam("diffuse", texture);
+            terrainMatData.setParam("colorOffset", new float[]{1, 1, 1});
+            terrainMatData.setParam("textured", true);
+            this.material = Assets.generateAsset(terrainMatData, Material.class);
+        }
+
+        public Material getMaterial() {
+            return material;
+        }
+
+        private long getByteSize() {
+            return (long) width * height * 4;
+        }
+
+        private void dispose() {
+            material.dispose();
+            texture.dispose();
+        }
+    }
+}
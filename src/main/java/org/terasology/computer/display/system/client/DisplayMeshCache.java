@@ -0,0 +1,77 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.math.Side;
+import org.terasology.engine.rendering.assets.mesh.Mesh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class DisplayMeshCache {
+    private final Map<MeshKey, Entry> entries = new HashMap<>();
+
+    public Mesh acquire(Vector3ic monitorSize, Side front, boolean chassis, Supplier<Mesh> meshFactory) {
+        Entry entry = entries.computeIfAbsent(new MeshKey(monitorSize, front, chassis), key -> new Entry(meshFactory.get()));
+        entry.refCount++;
+        return entry.mesh;
+    }
+
+    public void release(Vector3ic monitorSize, Side front, boolean chassis) {
+        MeshKey key = new MeshKey(monitorSize, front, chassis);
+        Entry entry = entries.get(key);
+        if (entry != null && --entry.refCount == 0) {
+            entries.remove(key);
+            entry.mesh.dispose();
+        }
+    }
+
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            entry.mesh.dispose();
+        }
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final Mesh mesh;
+        private int refCount;
+
+        private Entry(Mesh mesh) {
+            this.mesh = mesh;
+        }
+    }
+
+    private static final class MeshKey {
+        private final Vector3i monitorSize;
+        private final Side front;
+        private final boolean chassis;
+
+        private MeshKey(Vector3ic monitorSize, Side front, boolean chassis) {
+            this.monitorSize = new Vector3i(monitorSize);
+            this.front = front;
+            this.chassis = chassis;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MeshKey meshKey = (MeshKey) o;
+            return chassis == meshKey.chassis && front == meshKey.front && monitorSize.equals(meshKey.monitorSize);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(monitorSize, front, chassis);
+        }
+    }
+}
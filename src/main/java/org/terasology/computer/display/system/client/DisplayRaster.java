@@ -0,0 +1,110 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+public class DisplayRaster {
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private final int width;
+    private final int height;
+    private final int downscale;
+    private final BufferedImage image;
+    private final int[] pixels;
+    private ByteBuffer textureData;
+    private boolean rgbaPixels;
+
+    private Object rendererState;
+    private Object compiledData;
+
+    public DisplayRaster(int width, int height, int downscale) {
+        this.width = width;
+        this.height = height;
+        this.downscale = downscale;
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getDownscale() {
+        return downscale;
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    public static int toRgba(int argb) {
+        int rgba = Integer.rotateLeft(argb, 8);
+        return LITTLE_ENDIAN ? Integer.reverseBytes(rgba) : rgba;
+    }
+
+    public boolean isRgbaPixels() {
+        return rgbaPixels;
+    }
+
+    public void setRgbaPixels(boolean rgbaPixels) {
+        this.rgbaPixels = rgbaPixels;
+    }
+
+    public Object getRendererState() {
+        return rendererState;
+    }
+
+    public void setRendererState(Object rendererState) {
+        this.rendererState = rendererState;
+    }
+
+    public Object getCompiledData() {
+        return compiledData;
+    }
+
+    public void setCompiledData(Object compiledData) {
+        this.compiledData = compiledData;
+    }
+
+    public ByteBuffer flush(DisplayTextureBufferPool bufferPool) {
+        if (textureData == null) {
+            textureData = bufferPool.acquire(width * height * 4);
+        }
+        if (rgbaPixels) {
+            textureData.duplicate().order(ByteOrder.nativeOrder()).asIntBuffer().put(pixels);
+        } else {
+            IntBuffer textureDataPixels = textureData.asIntBuffer();
+            for (int i = 0; i < pixels.length; i++) {
+                textureDataPixels.put(i, Integer.rotateLeft(pixels[i], 8));
+            }
+        }
+
+        textureData.rewind();
+        return textureData;
+    }
+
+    public ByteBuffer getTextureData() {
+        textureData.rewind();
+        return textureData;
+    }
+
+    public void releaseTextureData(DisplayTextureBufferPool bufferPool) {
+        if (textureData != null) {
+            bufferPool.release(textureData);
+            textureData = null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+public class DisplayRenderService {
+    private static final Logger logger = LoggerFactory.getLogger(DisplayRenderService.class);
+
+    private final ForkJoinPool renderPool;
+    private final DisplayTextureBufferPool textureBufferPool;
+    private final Queue<RenderedFrame> renderedFrames = new ConcurrentLinkedQueue<>();
+
+    public DisplayRenderService(int threadCount, DisplayTextureBufferPool textureBufferPool) {
+        renderPool = new ForkJoinPool(threadCount);
+        this.textureBufferPool = textureBufferPool;
+    }
+
+    public void submit(EntityRef monitorEntity, DisplayRenderer displayRenderer, DisplayRaster raster, DisplayContentKey contentKey) {
+        renderPool.execute(() -> {
+            boolean successful = false;
+            long renderStart = System.nanoTime();
+            try {
+                displayRenderer.render(raster, contentKey.getMode(), contentKey.getData());
+                raster.flush(textureBufferPool);
+                successful = true;
+            } catch (RuntimeException exp) {
+                raster.setRendererState(null);
+                raster.setCompiledData(null);
+                logger.error("Unable to render display in mode {}", contentKey.getMode(), exp);
+            }
+            renderedFrames.add(new RenderedFrame(monitorEntity, raster, contentKey, successful, System.nanoTime() - renderStart));
+        });
+    }
+
+    public RenderedFrame pollRenderedFrame() {
+        return renderedFrames.poll();
+    }
+
+    public void shutdown() {
+        renderPool.shutdownNow();
+    }
+
+    public static final class RenderedFrame {
+        private final EntityRef monitorEntity;
+        private final DisplayRaster raster;
+        private final DisplayContentKey contentKey;
+        private final boolean successful;
+        private final long renderNanos;
+
+        private RenderedFrame(EntityRef monitorEntity, DisplayRaster raster, DisplayContentKey contentKey, boolean successful,
+                              long renderNanos) {
+            this.monitorEntity = monitorEntity;
+            this.raster = raster;
+            this.contentKey = contentKey;
+            this.successful = successful;
+            this.renderNanos = renderNanos;
+        }
+
+        public EntityRef getMonitorEntity() {
+            return monitorEntity;
+        }
+
+        public DisplayRaster getRaster() {
+            return raster;
+        }
+
+        public DisplayContentKey getContentKey() {
+            return contentKey;
+        }
+
+        public boolean isSuccessful() {
+            return successful;
+        }
+
+        public long getRenderNanos() {
+            return renderNanos;
+        }
+    }
+}
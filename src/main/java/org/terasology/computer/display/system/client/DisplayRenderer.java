@@ -2,10 +2,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.display.system.client;
 
-import org.terasology.engine.rendering.assets.material.Material;
+import org.joml.Vector2i;
 
 import java.util.List;
 
 public interface DisplayRenderer {
-    Material renderMaterial(String mode, List<String> data);
+    Vector2i getResolution(String mode);
+
+    void render(DisplayRaster raster, String mode, List<String> data);
 }
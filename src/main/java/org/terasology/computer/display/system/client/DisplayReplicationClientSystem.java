@@ -0,0 +1,124 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import org.terasology.computer.display.component.DisplayComponent;
+import org.terasology.computer.display.event.DisplayContentAcknowledgeEvent;
+import org.terasology.computer.display.event.DisplayContentDeltaEvent;
+import org.terasology.computer.display.event.DisplayContentResyncRequestEvent;
+import org.terasology.computer.display.event.DisplayContentSnapshotEvent;
+import org.terasology.computer.display.event.DisplayContentStaleEvent;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.players.LocalPlayer;
+import org.terasology.engine.network.NetworkSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@RegisterSystem(RegisterMode.CLIENT)
+public class DisplayReplicationClientSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    private static final long RESYNC_TIMEOUT = 5000;
+
+    @In
+    private NetworkSystem networkSystem;
+    @In
+    private LocalPlayer localPlayer;
+    @In
+    private Time time;
+
+    private Map<EntityRef, Integer> sequences = new HashMap<>();
+    private Map<EntityRef, Long> pendingResyncs = new HashMap<>();
+
+    @Override
+    public void update(float delta) {
+        if (pendingResyncs.isEmpty()) {
+            return;
+        }
+
+        long now = time.getRealTimeInMs();
+        Iterator<Long> requestTimes = pendingResyncs.values().iterator();
+        while (requestTimes.hasNext()) {
+            if (now - requestTimes.next() >= RESYNC_TIMEOUT) {
+                requestTimes.remove();
+            }
+        }
+    }
+
+    @ReceiveEvent
+    public void onDisplayAdded(OnAddedComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        if (!networkSystem.getMode().isAuthority() && !sequences.containsKey(monitorEntity)) {
+            requestResync(monitorEntity);
+        }
+    }
+
+    @ReceiveEvent
+    public void onDisplayRemoved(BeforeRemoveComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        sequences.remove(monitorEntity);
+        pendingResyncs.remove(monitorEntity);
+    }
+
+    @ReceiveEvent
+    public void onSnapshot(DisplayContentSnapshotEvent event, EntityRef clientEntity) {
+        EntityRef monitorEntity = event.getMonitor();
+        DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+        if (!networkSystem.getMode().isAuthority() && monitor != null) {
+            pendingResyncs.remove(monitorEntity);
+            applySnapshot(monitorEntity, monitor, event.getSequence(), event.getMode(), event.getData());
+            clientEntity.send(new DisplayContentAcknowledgeEvent(clientEntity, monitorEntity));
+        }
+    }
+
+    @ReceiveEvent
+    public void onStale(DisplayContentStaleEvent event, EntityRef clientEntity) {
+        if (!networkSystem.getMode().isAuthority()) {
+            pendingResyncs.remove(event.getMonitor());
+        }
+    }
+
+    @ReceiveEvent
+    public void onDelta(DisplayContentDeltaEvent event, EntityRef clientEntity) {
+        EntityRef monitorEntity = event.getMonitor();
+        DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+        if (networkSystem.getMode().isAuthority() || monitor == null) {
+            return;
+        }
+
+        Integer sequence = sequences.get(monitorEntity);
+        if (sequence == null || event.getSequence() > sequence + 1) {
+            requestResync(monitorEntity);
+        } else if (event.getSequence() == sequence + 1) {
+            sequences.put(monitorEntity, event.getSequence());
+            monitor.setData(event.applyTo(monitor.getData()));
+            monitorEntity.saveComponent(monitor);
+        }
+    }
+
+    private void applySnapshot(EntityRef monitorEntity, DisplayComponent monitor, int sequence, String mode, List<String> data) {
+        Integer currentSequence = sequences.get(monitorEntity);
+        if (currentSequence == null || sequence > currentSequence) {
+            sequences.put(monitorEntity, sequence);
+            monitor.setMode(mode);
+            monitor.setData(data);
+            monitorEntity.saveComponent(monitor);
+        }
+    }
+
+    private void requestResync(EntityRef monitorEntity) {
+        EntityRef clientEntity = localPlayer.getClientEntity();
+        if (clientEntity.exists() && !pendingResyncs.containsKey(monitorEntity)) {
+            pendingResyncs.put(monitorEntity, time.getRealTimeInMs());
+            clientEntity.send(new DisplayContentResyncRequestEvent(clientEntity, monitorEntity));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import org.terasology.engine.rendering.assets.material.Material;
+
+public class DisplayScreen {
+    private DisplayRaster raster;
+    private DisplayMaterialCache.Entry materialEntry;
+
+    private long lastRenderTime;
+    private int downscale = 1;
+    private boolean suspended;
+    private boolean evicted;
+    private long lastVisibleTime;
+
+    public Material getMaterial() {
+        return materialEntry.getMaterial();
+    }
+
+    public DisplayMaterialCache.Entry getMaterialEntry() {
+        return materialEntry;
+    }
+
+    public long getLastRenderTime() {
+        return lastRenderTime;
+    }
+
+    public int getDownscale() {
+        return downscale;
+    }
+
+    public void setDownscale(int downscale) {
+        this.downscale = downscale;
+    }
+
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    public void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+    }
+
+    public long getLastVisibleTime() {
+        return lastVisibleTime;
+    }
+
+    public void setLastVisibleTime(long lastVisibleTime) {
+        this.lastVisibleTime = lastVisibleTime;
+    }
+
+    public boolean isEvicted() {
+        return evicted;
+    }
+
+    public long getRasterBytes() {
+        return raster != null ? (long) raster.getWidth() * raster.getHeight() * 4 : 0;
+    }
+
+    public void evict() {
+        raster = null;
+        evicted = true;
+    }
+
+    public DisplayRaster getRaster(int resolutionWidth, int resolutionHeight) {
+        int rasterWidth = (resolutionWidth + downscale - 1) / downscale;
+        int rasterHeight = (resolutionHeight + downscale - 1) / downscale;
+        if (raster == null || raster.getWidth() != rasterWidth || raster.getHeight() != rasterHeight
+                || raster.getDownscale() != downscale) {
+            DisplayRaster previousRaster = raster;
+            raster = new DisplayRaster(rasterWidth, rasterHeight, downscale);
+            if (previousRaster != null) {
+                raster.setCompiledData(previousRaster.getCompiledData());
+            }
+        }
+        return raster;
+    }
+
+    public boolean setMaterialEntry(DisplayMaterialCache.Entry entry, long renderTime) {
+        lastRenderTime = renderTime;
+        evicted = false;
+
+        boolean materialChanged = materialEntry == null || materialEntry.getMaterial() != entry.getMaterial();
+        materialEntry = entry;
+        return materialChanged;
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.client;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class DisplayTextureBufferPool {
+    private final int maxPooledBuffers;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    public DisplayTextureBufferPool(int maxPooledBuffers) {
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    public ByteBuffer acquire(int capacity) {
+        Iterator<ByteBuffer> iterator = buffers.iterator();
+        while (iterator.hasNext()) {
+            ByteBuffer buffer = iterator.next();
+            if (buffer.capacity() == capacity && buffers.remove(buffer)) {
+                buffer.clear();
+                return buffer;
+            }
+        }
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.BIG_ENDIAN);
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (buffers.size() < maxPooledBuffers) {
+            buffers.add(buffer);
+        }
+    }
+
+    public void clear() {
+        buffers.clear();
+    }
+}
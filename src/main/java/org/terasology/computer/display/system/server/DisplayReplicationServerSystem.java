@@ -0,0 +1,325 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.server;
+
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.computer.display.component.DisplayComponent;
+import org.terasology.computer.display.event.DisplayContentAcknowledgeEvent;
+import org.terasology.computer.display.event.DisplayContentDeltaEvent;
+import org.terasology.computer.display.event.DisplayContentResyncRequestEvent;
+import org.terasology.computer.display.event.DisplayContentSnapshotEvent;
+import org.terasology.computer.display.event.DisplayContentStaleEvent;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.config.ModuleConfigManager;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.network.Client;
+import org.terasology.engine.network.ClientComponent;
+import org.terasology.engine.network.NetworkSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class DisplayReplicationServerSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    private static final int DEFAULT_REPLICATION_RANGE = 96;
+    private static final int RANGE_HYSTERESIS = 8;
+    private static final long RELEVANCE_UPDATE_INTERVAL = 500;
+    private static final long SNAPSHOT_ACKNOWLEDGE_TIMEOUT = 2000;
+
+    @In
+    private NetworkSystem networkSystem;
+    @In
+    private Time time;
+    @In
+    private ModuleConfigManager moduleConfigManager;
+
+    private Map<EntityRef, ReplicatedContent> replicatedContents = new HashMap<>();
+    private int replicationRange;
+    private boolean requireFrontView;
+    private long lastRelevanceUpdateTime;
+
+    @Override
+    public void initialise() {
+        replicationRange = moduleConfigManager.getIntVariable("ComputerMonitors", "replication.range", DEFAULT_REPLICATION_RANGE);
+        requireFrontView = moduleConfigManager.getBooleanVariable("ComputerMonitors", "replication.requireFrontView", false);
+    }
+
+    @Override
+    public void update(float delta) {
+        long now = time.getRealTimeInMs();
+        if (now - lastRelevanceUpdateTime < RELEVANCE_UPDATE_INTERVAL || replicatedContents.isEmpty()) {
+            return;
+        }
+        lastRelevanceUpdateTime = now;
+
+        List<EntityRef> viewers = getViewers();
+        for (Map.Entry<EntityRef, ReplicatedContent> replicatedContent : replicatedContents.entrySet()) {
+            EntityRef monitorEntity = replicatedContent.getKey();
+            ReplicatedContent content = replicatedContent.getValue();
+            DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+            content.relevantViewers.retainAll(viewers);
+            content.staleViewers.retainAll(viewers);
+            content.pendingViewers.keySet().retainAll(viewers);
+            if (monitor == null) {
+                continue;
+            }
+
+            for (EntityRef viewer : viewers) {
+                boolean wasRelevant = content.relevantViewers.contains(viewer);
+                boolean relevant = isRelevant(viewer, monitorEntity, monitor, wasRelevant);
+                Long snapshotTime = content.pendingViewers.get(viewer);
+                if (relevant && !wasRelevant && (snapshotTime == null || now - snapshotTime >= SNAPSHOT_ACKNOWLEDGE_TIMEOUT)) {
+                    sendSnapshot(viewer, monitorEntity, content);
+                } else if (!relevant) {
+                    content.relevantViewers.remove(viewer);
+                    content.pendingViewers.remove(viewer);
+                }
+            }
+        }
+    }
+
+    @ReceiveEvent
+    public void onDisplayAdded(OnAddedComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        startReplication(monitorEntity, monitor);
+    }
+
+    private void startReplication(EntityRef monitorEntity, DisplayComponent monitor) {
+        ReplicatedContent content = new ReplicatedContent(monitor.getMode(), monitor.getData());
+        replicatedContents.put(monitorEntity, content);
+        for (EntityRef viewer : getViewers()) {
+            if (isRelevant(viewer, monitorEntity, monitor, false)) {
+                sendSnapshot(viewer, monitorEntity, content);
+            }
+        }
+    }
+
+    @ReceiveEvent
+    public void onDisplayChanged(OnChangedComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        ReplicatedContent content = replicatedContents.get(monitorEntity);
+        if (content == null) {
+            startReplication(monitorEntity, monitor);
+            return;
+        }
+
+        List<String> previous = content.data;
+        List<String> current = monitor.getData();
+        boolean modeChanged = !Objects.equals(content.mode, monitor.getMode());
+        if (!modeChanged && previous == current) {
+            return;
+        }
+
+        List<EntityRef> viewers = getViewers();
+        if (!hasReplicatingViewer(content, viewers)) {
+            content.update(monitor.getMode(), current);
+            markStale(monitorEntity, content, viewers);
+            return;
+        }
+
+        int commonPrefix = 0;
+        int commonLength = Math.min(previous.size(), current.size());
+        while (commonPrefix < commonLength && Objects.equals(previous.get(commonPrefix), current.get(commonPrefix))) {
+            commonPrefix++;
+        }
+        if (!modeChanged && commonPrefix == previous.size() && commonPrefix == current.size()) {
+            content.data = current;
+            return;
+        }
+
+        content.update(monitor.getMode(), current);
+
+        List<Integer> replacedIndices = new ArrayList<>();
+        List<String> replacedLines = new ArrayList<>();
+        List<String> appendedLines = new ArrayList<>();
+        int keptLines = commonPrefix;
+        if (previous.size() == current.size()) {
+            keptLines = current.size();
+            for (int i = commonPrefix; i < current.size(); i++) {
+                if (!Objects.equals(previous.get(i), current.get(i))) {
+                    replacedIndices.add(i);
+                    replacedLines.add(current.get(i));
+                }
+            }
+        } else {
+            appendedLines.addAll(current.subList(commonPrefix, current.size()));
+        }
+
+        Event update = null;
+        for (EntityRef viewer : viewers) {
+            if (isReplicating(content, viewer)) {
+                if (update == null) {
+                    if (modeChanged || replacedLines.size() + appendedLines.size() >= current.size()) {
+                        update = content.getSnapshot(monitorEntity);
+                    } else {
+                        update = new DisplayContentDeltaEvent(monitorEntity, content.sequence, keptLines, replacedIndices, replacedLines,
+                                appendedLines);
+                    }
+                }
+                viewer.send(update);
+            } else if (content.staleViewers.add(viewer)) {
+                viewer.send(new DisplayContentStaleEvent(monitorEntity, content.sequence));
+            }
+        }
+    }
+
+    @ReceiveEvent
+    public void onDisplayRemoved(BeforeRemoveComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        replicatedContents.remove(monitorEntity);
+    }
+
+    @ReceiveEvent
+    public void onResyncRequested(DisplayContentResyncRequestEvent event, EntityRef clientEntity, ClientComponent client) {
+        EntityRef monitorEntity = event.getMonitor();
+        DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+        ReplicatedContent content = replicatedContents.get(monitorEntity);
+        if (monitor == null || content == null) {
+            return;
+        }
+
+        EntityRef viewer = event.getInstigator();
+        if (!viewer.equals(clientEntity)) {
+            return;
+        }
+
+        if (isRelevant(viewer, monitorEntity, monitor, content.relevantViewers.contains(viewer))) {
+            sendSnapshot(viewer, monitorEntity, content);
+        } else {
+            content.relevantViewers.remove(viewer);
+            content.pendingViewers.remove(viewer);
+            content.staleViewers.add(viewer);
+            viewer.send(new DisplayContentStaleEvent(monitorEntity, content.sequence));
+        }
+    }
+
+    @ReceiveEvent
+    public void onSnapshotAcknowledged(DisplayContentAcknowledgeEvent event, EntityRef clientEntity, ClientComponent client) {
+        ReplicatedContent content = replicatedContents.get(event.getMonitor());
+        EntityRef viewer = event.getInstigator();
+        if (content != null && viewer.equals(clientEntity) && content.pendingViewers.remove(viewer) != null) {
+            content.relevantViewers.add(viewer);
+        }
+    }
+
+    private void sendSnapshot(EntityRef viewer, EntityRef monitorEntity, ReplicatedContent content) {
+        content.relevantViewers.remove(viewer);
+        content.pendingViewers.put(viewer, time.getRealTimeInMs());
+        content.staleViewers.remove(viewer);
+        viewer.send(content.getSnapshot(monitorEntity));
+    }
+
+    private boolean hasReplicatingViewer(ReplicatedContent content, List<EntityRef> viewers) {
+        for (EntityRef viewer : viewers) {
+            if (isReplicating(content, viewer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isReplicating(ReplicatedContent content, EntityRef viewer) {
+        return content.relevantViewers.contains(viewer) || content.pendingViewers.containsKey(viewer);
+    }
+
+    private void markStale(EntityRef monitorEntity, ReplicatedContent content, List<EntityRef> viewers) {
+        for (EntityRef viewer : viewers) {
+            if (content.staleViewers.add(viewer)) {
+                viewer.send(new DisplayContentStaleEvent(monitorEntity, content.sequence));
+            }
+        }
+    }
+
+    private List<EntityRef> getViewers() {
+        List<EntityRef> viewers = new ArrayList<>();
+        for (Client client : networkSystem.getPlayers()) {
+            EntityRef clientEntity = client.getEntity();
+            if (!client.isLocal() && clientEntity.hasComponent(ClientComponent.class)) {
+                viewers.add(clientEntity);
+            }
+        }
+        return viewers;
+    }
+
+    private boolean isRelevant(EntityRef viewer, EntityRef monitorEntity, DisplayComponent monitor, boolean wasRelevant) {
+        ClientComponent client = viewer.getComponent(ClientComponent.class);
+        if (client == null) {
+            return false;
+        }
+        if (replicationRange <= 0 && !requireFrontView) {
+            return true;
+        }
+
+        LocationComponent viewerLocation = client.character.getComponent(LocationComponent.class);
+        LocationComponent monitorLocation = monitorEntity.getComponent(LocationComponent.class);
+        if (viewerLocation == null || monitorLocation == null) {
+            return true;
+        }
+
+        Vector3f viewerPosition = viewerLocation.getWorldPosition(new Vector3f());
+        Vector3i monitorSize = monitor.getMonitorSize();
+        Vector3f monitorCenter = monitorLocation.getWorldPosition(new Vector3f()).add(
+                (monitorSize.x - 1) / 2f, (monitorSize.y - 1) / 2f, (monitorSize.z - 1) / 2f);
+
+        if (replicationRange > 0) {
+            int range = wasRelevant ? replicationRange + RANGE_HYSTERESIS : replicationRange;
+            if (monitorCenter.distance(viewerPosition) > range) {
+                return false;
+            }
+        }
+
+        if (requireFrontView && monitor.getFront() != null) {
+            Vector3ic frontDirection = monitor.getFront().direction();
+            Vector3f screenCenter = new Vector3f(monitorCenter).add(
+                    frontDirection.x() * monitorSize.x / 2f,
+                    frontDirection.y() * monitorSize.y / 2f,
+                    frontDirection.z() * monitorSize.z / 2f);
+            return viewerPosition.sub(screenCenter).dot(frontDirection.x(), frontDirection.y(), frontDirection.z()) > 0;
+        }
+        return true;
+    }
+
+    private static final class ReplicatedContent {
+        private int sequence;
+        private String mode;
+        private List<String> data;
+        private DisplayContentSnapshotEvent snapshot;
+        private Set<EntityRef> relevantViewers = new HashSet<>();
+        private Set<EntityRef> staleViewers = new HashSet<>();
+        private Map<EntityRef, Long> pendingViewers = new HashMap<>();
+
+        private ReplicatedContent(String mode, List<String> data) {
+            this.mode = mode;
+            this.data = data;
+        }
+
+        private void update(String newMode, List<String> newData) {
+            sequence++;
+            mode = newMode;
+            data = newData;
+            snapshot = null;
+        }
+
+        private DisplayContentSnapshotEvent getSnapshot(EntityRef monitorEntity) {
+            if (snapshot == null) {
+                snapshot = new DisplayContentSnapshotEvent(monitorEntity, sequence, mode, new ArrayList<>(data));
+            }
+            return snapshot;
+        }
+    }
+}
@@ -46,6 +46,8 @@ public class DisplayServerSystem extends BaseComponentSystem {
     private BlockEntityRegistry blockEntityRegistry;
     @In
     private WorldProvider worldProvider;
+    @In
+    private DisplayWriteBuffer displayWriteBuffer;
 
     @Override
     public void preBegin() {
@@ -130,6 +132,7 @@ public class DisplayServerSystem extends BaseComponentSystem {
         if (event.getType().equals(MONITOR_MULTI_BLOCK_TYPE)) {
             EntityRef mainBlockEntity = event.getMainBlockEntity();
 
+            displayWriteBuffer.flush(multiBlockEntity);
             DisplayComponent monitor = multiBlockEntity.getComponent(DisplayComponent.class);
 
             DisplayDataHolderComponent component = new DisplayDataHolderComponent(
@@ -0,0 +1,23 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.server;
+
+import org.terasology.computer.display.DisplayCharacterGrid;
+import org.terasology.computer.display.DisplayCommandLog;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.List;
+
+public interface DisplayWriteBuffer {
+    String getMode(EntityRef monitorEntity);
+
+    DisplayCommandLog getLog(EntityRef monitorEntity);
+
+    DisplayCharacterGrid getCharacterGrid(EntityRef monitorEntity, int width, int height);
+
+    void write(EntityRef monitorEntity, String mode, List<String> data);
+
+    void append(EntityRef monitorEntity, List<String> commands);
+
+    void flush(EntityRef monitorEntity);
+}
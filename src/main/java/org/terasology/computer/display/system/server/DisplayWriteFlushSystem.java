@@ -0,0 +1,166 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.display.system.server;
+
+import org.terasology.computer.display.DisplayCharacterGrid;
+import org.terasology.computer.display.DisplayCommandLog;
+import org.terasology.computer.display.component.DisplayComponent;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.registry.Share;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(DisplayWriteBuffer.class)
+public class DisplayWriteFlushSystem extends BaseComponentSystem implements UpdateSubscriberSystem, DisplayWriteBuffer {
+    private Map<EntityRef, DisplayWrite> displayWrites = new HashMap<>();
+    private Set<EntityRef> changedDisplays = new LinkedHashSet<>();
+    private Set<EntityRef> characterGridDisplays = new HashSet<>();
+
+    @Override
+    public String getMode(EntityRef monitorEntity) {
+        return getDisplayWrite(monitorEntity).mode;
+    }
+
+    @Override
+    public DisplayCommandLog getLog(EntityRef monitorEntity) {
+        DisplayWrite displayWrite = getDisplayWrite(monitorEntity);
+        syncCharacterGrid(displayWrite);
+        return displayWrite.log;
+    }
+
+    @Override
+    public DisplayCharacterGrid getCharacterGrid(EntityRef monitorEntity, int width, int height) {
+        DisplayWrite displayWrite = getDisplayWrite(monitorEntity);
+        DisplayCharacterGrid characterGrid = displayWrite.characterGrid;
+        if (characterGrid == null || characterGrid.getWidth() != width || characterGrid.getHeight() != height) {
+            syncCharacterGrid(displayWrite);
+            characterGrid = new DisplayCharacterGrid(width, height);
+            characterGrid.load(displayWrite.log.getEntries());
+            characterGrid.toLines();
+            displayWrite.characterGrid = characterGrid;
+        }
+        characterGridDisplays.add(monitorEntity);
+        return characterGrid;
+    }
+
+    @Override
+    public void write(EntityRef monitorEntity, String mode, List<String> data) {
+        DisplayWrite displayWrite = getDisplayWrite(monitorEntity);
+        displayWrite.mode = mode;
+        displayWrite.characterGrid = null;
+        displayWrite.log.replace(data);
+        changedDisplays.add(monitorEntity);
+    }
+
+    @Override
+    public void append(EntityRef monitorEntity, List<String> commands) {
+        DisplayWrite displayWrite = getDisplayWrite(monitorEntity);
+        syncCharacterGrid(displayWrite);
+        displayWrite.characterGrid = null;
+        displayWrite.log.appendAll(commands);
+        changedDisplays.add(monitorEntity);
+    }
+
+    @Override
+    public void flush(EntityRef monitorEntity) {
+        DisplayWrite displayWrite = displayWrites.remove(monitorEntity);
+        characterGridDisplays.remove(monitorEntity);
+        boolean changed = changedDisplays.remove(monitorEntity);
+        if (displayWrite != null && (changed || displayWrite.isCharacterGridDirty())) {
+            save(monitorEntity, displayWrite);
+        }
+    }
+
+    @Override
+    public void update(float delta) {
+        for (EntityRef monitorEntity : characterGridDisplays) {
+            DisplayWrite displayWrite = displayWrites.get(monitorEntity);
+            if (displayWrite != null && displayWrite.isCharacterGridDirty()) {
+                changedDisplays.add(monitorEntity);
+            }
+        }
+        characterGridDisplays.clear();
+        if (changedDisplays.isEmpty()) {
+            return;
+        }
+
+        List<EntityRef> monitorEntities = new ArrayList<>(changedDisplays);
+        changedDisplays.clear();
+        for (EntityRef monitorEntity : monitorEntities) {
+            DisplayWrite displayWrite = displayWrites.get(monitorEntity);
+            if (displayWrite != null) {
+                save(monitorEntity, displayWrite);
+            }
+        }
+    }
+
+    @ReceiveEvent
+    public void onDisplayRemoved(BeforeRemoveComponent event, EntityRef monitorEntity, DisplayComponent monitor) {
+        displayWrites.remove(monitorEntity);
+        changedDisplays.remove(monitorEntity);
+        characterGridDisplays.remove(monitorEntity);
+    }
+
+    private DisplayWrite getDisplayWrite(EntityRef monitorEntity) {
+        DisplayWrite displayWrite = displayWrites.get(monitorEntity);
+        DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+        if (displayWrite == null || (!changedDisplays.contains(monitorEntity) && !displayWrite.isCharacterGridDirty()
+                && !displayWrite.isSavedIn(monitor))) {
+            displayWrite = monitor != null ? new DisplayWrite(monitor.getMode(), monitor.getData()) : new DisplayWrite(null, null);
+            displayWrites.put(monitorEntity, displayWrite);
+        }
+        return displayWrite;
+    }
+
+    private void syncCharacterGrid(DisplayWrite displayWrite) {
+        if (displayWrite.characterGrid != null && displayWrite.characterGrid.isDirty()) {
+            displayWrite.log.replace(displayWrite.characterGrid.toLines());
+        }
+    }
+
+    private void save(EntityRef monitorEntity, DisplayWrite displayWrite) {
+        DisplayComponent monitor = monitorEntity.getComponent(DisplayComponent.class);
+        if (monitor != null) {
+            syncCharacterGrid(displayWrite);
+            displayWrite.savedData = displayWrite.log.getEntries();
+            monitor.setMode(displayWrite.mode);
+            monitor.setData(displayWrite.savedData);
+            monitorEntity.saveComponent(monitor);
+        }
+    }
+
+    private static final class DisplayWrite {
+        private String mode;
+        private final DisplayCommandLog log;
+        private DisplayCharacterGrid characterGrid;
+        private List<String> savedData;
+
+        private DisplayWrite(String mode, List<String> data) {
+            this.mode = mode;
+            this.log = new DisplayCommandLog(data);
+            this.savedData = data;
+        }
+
+        private boolean isCharacterGridDirty() {
+            return characterGrid != null && characterGrid.isDirty();
+        }
+
+        private boolean isSavedIn(DisplayComponent monitor) {
+            return monitor != null ? monitor.getData() == savedData && Objects.equals(monitor.getMode(), mode) : savedData == null;
+        }
+    }
+}
@@ -3,42 +3,73 @@
 package org.terasology.computer.monitor.module;
 
 import com.gempukku.lang.ExecutionException;
-import org.terasology.computer.display.component.DisplayComponent;
+import org.terasology.computer.display.DisplayCharacterGrid;
+import org.terasology.computer.display.DisplayCommandLog;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class EntityRenderCommandSink implements RenderCommandSink {
     private EntityRef entityRef;
+    private DisplayWriteBuffer displayWriteBuffer;
 
-    public EntityRenderCommandSink(EntityRef entityRef) {
+    public EntityRenderCommandSink(EntityRef entityRef, DisplayWriteBuffer displayWriteBuffer) {
         this.entityRef = entityRef;
+        this.displayWriteBuffer = displayWriteBuffer;
     }
 
     protected abstract String getRequiredMode(int line) throws ExecutionException;
 
     @Override
     public List<String> getExistingData(int line) throws ExecutionException {
-        DisplayComponent monitor = entityRef.getComponent(DisplayComponent.class);
-        ensureMonitorInCorrectMode(line, monitor);
-        return monitor.getData();
+        return getCommandLog(line).getEntries();
     }
 
     @Override
     public void setData(int line, List<String> data) throws ExecutionException {
-        DisplayComponent monitor = entityRef.getComponent(DisplayComponent.class);
-        ensureMonitorInCorrectMode(line, monitor);
-        monitor.setData(data);
-        entityRef.saveComponent(monitor);
+        String mode = ensureMonitorInCorrectMode(line);
+        displayWriteBuffer.write(entityRef, mode, compactData(displayWriteBuffer.getLog(entityRef).getEntries(), data));
     }
 
-    private void ensureMonitorInCorrectMode(int line, DisplayComponent monitor) throws ExecutionException {
+    @Override
+    public void append(int line, String command) throws ExecutionException {
+        appendAll(line, Collections.singletonList(command));
+    }
+
+    @Override
+    public void appendAll(int line, List<String> commands) throws ExecutionException {
+        ensureMonitorInCorrectMode(line);
+        DisplayCommandLog commandLog = displayWriteBuffer.getLog(entityRef);
+        int firstAppended = commandLog.size();
+        displayWriteBuffer.append(entityRef, commands);
+        compactAppended(commandLog, firstAppended);
+    }
+
+    protected DisplayCommandLog getCommandLog(int line) throws ExecutionException {
+        ensureMonitorInCorrectMode(line);
+        return displayWriteBuffer.getLog(entityRef);
+    }
+
+    protected DisplayCharacterGrid getCharacterGrid(int line, int width, int height) throws ExecutionException {
+        ensureMonitorInCorrectMode(line);
+        return displayWriteBuffer.getCharacterGrid(entityRef, width, height);
+    }
+
+    protected List<String> compactData(List<String> existingData, List<String> data) {
+        return data;
+    }
+
+    protected void compactAppended(DisplayCommandLog commandLog, int firstAppended) {
+    }
+
+    private String ensureMonitorInCorrectMode(int line) throws ExecutionException {
         String mode = getRequiredMode(line);
-        if (monitor.getMode() == null || !monitor.getMode().equals(mode)) {
-            monitor.setMode(mode);
-            monitor.setData(new ArrayList<>());
-            entityRef.saveComponent(monitor);
+        if (!mode.equals(displayWriteBuffer.getMode(entityRef))) {
+            displayWriteBuffer.write(entityRef, mode, new ArrayList<>());
         }
+        return mode;
     }
 }
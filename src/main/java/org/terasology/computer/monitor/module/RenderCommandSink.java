@@ -11,5 +11,9 @@ public interface RenderCommandSink {
 
     void setData(int line, List<String> data) throws ExecutionException;
 
+    void append(int line, String command) throws ExecutionException;
+
+    void appendAll(int line, List<String> commands) throws ExecutionException;
+
     boolean isInstantRendering();
 }
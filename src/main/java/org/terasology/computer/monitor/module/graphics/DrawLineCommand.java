@@ -0,0 +1,51 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.Stroke;
+
+public class DrawLineCommand implements GraphicsCommand {
+    private final int x1;
+    private final int y1;
+    private final int x2;
+    private final int y2;
+    private final Paint paint;
+    private final Stroke stroke;
+    private final Rectangle bounds;
+
+    public DrawLineCommand(int x1, int y1, int x2, int y2, Paint paint, Stroke stroke) {
+        this.x1 = x1;
+        this.y1 = y1;
+        this.x2 = x2;
+        this.y2 = y2;
+        this.paint = paint;
+        this.stroke = stroke;
+        this.bounds = GraphicsCommandBounds.of(x1, y1, x2, y2, stroke);
+    }
+
+    @Override
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public boolean isClipInvariant() {
+        return paint instanceof Color && stroke instanceof BasicStroke && ((BasicStroke) stroke).getLineWidth() > 0;
+    }
+
+    @Override
+    public void render(GraphicsRenderContext context) {
+        context.setStroke(stroke);
+        context.setPaint(paint);
+        Paint currentPaint = context.getPaint();
+        if (currentPaint instanceof Color && stroke instanceof BasicStroke && ((BasicStroke) stroke).getLineWidth() > 0) {
+            context.getRasterizer().strokeLine(x1, y1, x2, y2, ((BasicStroke) stroke).getLineWidth(), ((Color) currentPaint).getRGB());
+        } else {
+            context.getGraphics().drawLine(x1, y1, x2, y2);
+        }
+    }
+}
@@ -8,8 +8,6 @@ import org.terasology.computer.FunctionParamValidationUtil;
 import org.terasology.computer.context.ComputerCallback;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class DrawLineMethod extends AbstractModuleMethodExecutable<Object> {
@@ -65,12 +63,10 @@ public class DrawLineMethod extends AbstractModuleMethodExecutable<Object> {
         String paint = GraphicsRenderBindingValidator.validatePaint(line, parameters, "paint", methodName);
         int lineWidth = FunctionParamValidationUtil.validateIntParameter(line, parameters, "width", methodName);
 
-        List<String> existingData = renderCommandSink.getExistingData(line);
+        GraphicsCommandWriter writer = new GraphicsCommandWriter(renderCommandSink.getPaintTable(line));
+        writer.drawLine(x1, y1, x2, y2, writer.paint(paint), lineWidth);
 
-        List<String> newData = new ArrayList<>(existingData);
-        newData.add("drawLine:" + x1 + ":" + y1 + ":" + x2 + ":" + y2 + ":" + paint + ":" + lineWidth);
-
-        renderCommandSink.setData(line, newData);
+        renderCommandSink.appendAll(line, writer.getCommands());
 
         return null;
     }
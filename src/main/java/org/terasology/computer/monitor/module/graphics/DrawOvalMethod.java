@@ -8,8 +8,6 @@ import org.terasology.computer.FunctionParamValidationUtil;
 import org.terasology.computer.context.ComputerCallback;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class DrawOvalMethod extends AbstractModuleMethodExecutable<Object> {
@@ -64,12 +62,10 @@ public class DrawOvalMethod extends AbstractModuleMethodExecutable<Object> {
         String paint = GraphicsRenderBindingValidator.validatePaint(line, parameters, "paint", methodName);
         boolean fill = FunctionParamValidationUtil.validateBooleanParameter(line, parameters, "fill", methodName);
 
-        List<String> existingData = renderCommandSink.getExistingData(line);
+        GraphicsCommandWriter writer = new GraphicsCommandWriter(renderCommandSink.getPaintTable(line));
+        writer.drawOval(x, y, width, height, writer.paint(paint), fill);
 
-        List<String> newData = new ArrayList<>(existingData);
-        newData.add("drawOval:" + x + ":" + y + ":" + width + ":" + height + ":" + paint + ":" + fill);
-
-        renderCommandSink.setData(line, newData);
+        renderCommandSink.appendAll(line, writer.getCommands());
 
         return null;
     }
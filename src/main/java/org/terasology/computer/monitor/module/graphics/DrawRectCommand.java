@@ -0,0 +1,57 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.Stroke;
+
+public class DrawRectCommand implements GraphicsCommand {
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private final Paint paint;
+    private final Stroke stroke;
+    private final boolean fill;
+    private final Rectangle bounds;
+
+    public DrawRectCommand(int x, int y, int width, int height, Paint paint, Stroke stroke, boolean fill) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.paint = paint;
+        this.stroke = stroke;
+        this.fill = fill;
+        this.bounds = GraphicsCommandBounds.of(x, y, (long) x + width, (long) y + height, stroke);
+    }
+
+    @Override
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public boolean isClipInvariant() {
+        return paint instanceof Color && (fill || stroke instanceof BasicStroke && ((BasicStroke) stroke).getLineWidth() > 0);
+    }
+
+    @Override
+    public void render(GraphicsRenderContext context) {
+        context.setStroke(stroke);
+        context.setPaint(paint);
+        Paint currentPaint = context.getPaint();
+        if (fill && currentPaint instanceof Color) {
+            context.getRasterizer().fillRect(x, y, width, height, ((Color) currentPaint).getRGB());
+        } else if (fill) {
+            context.getGraphics().fillRect(x, y, width, height);
+        } else if (currentPaint instanceof Color && stroke instanceof BasicStroke && ((BasicStroke) stroke).getLineWidth() > 0) {
+            context.getRasterizer().strokeRect(x, y, width, height, ((BasicStroke) stroke).getLineWidth(), ((Color) currentPaint).getRGB());
+        } else {
+            context.getGraphics().drawRect(x, y, width, height);
+        }
+    }
+}
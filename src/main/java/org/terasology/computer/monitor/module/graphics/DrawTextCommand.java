@@ -0,0 +1,41 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Paint;
+import java.awt.Rectangle;
+
+public class DrawTextCommand implements GraphicsCommand {
+    private final int x;
+    private final int y;
+    private final Paint paint;
+    private final Font font;
+    private final String text;
+
+    public DrawTextCommand(int x, int y, Paint paint, Font font, String text) {
+        this.x = x;
+        this.y = y;
+        this.paint = paint;
+        this.font = font;
+        this.text = text;
+    }
+
+    @Override
+    public Rectangle getBounds() {
+        return null;
+    }
+
+    @Override
+    public boolean isClipInvariant() {
+        return paint instanceof Color;
+    }
+
+    @Override
+    public void render(GraphicsRenderContext context) {
+        context.setPaint(paint);
+        context.setFont(font);
+        context.getGraphics().drawString(text, x, y);
+    }
+}
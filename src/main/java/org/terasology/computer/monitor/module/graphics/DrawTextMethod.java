@@ -8,8 +8,6 @@ import org.terasology.computer.FunctionParamValidationUtil;
 import org.terasology.computer.context.ComputerCallback;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class DrawTextMethod extends AbstractModuleMethodExecutable<Object> {
@@ -66,12 +64,10 @@ public class DrawTextMethod extends AbstractModuleMethodExecutable<Object> {
         int fontSize = FunctionParamValidationUtil.validateIntParameter(line, parameters, "fontSize", methodName);
         String paint = GraphicsRenderBindingValidator.validatePaint(line, parameters, "paint", methodName);
 
-        List<String> existingData = renderCommandSink.getExistingData(line);
+        GraphicsCommandWriter writer = new GraphicsCommandWriter(renderCommandSink.getPaintTable(line));
+        writer.drawText(x, y, writer.paint(paint), font, fontSize, text);
 
-        List<String> newData = new ArrayList<>(existingData);
-        newData.add("text:" + x + ":" + y + ":" + paint + ":" + font + ":" + fontSize + ":" + text);
-
-        renderCommandSink.setData(line, newData);
+        renderCommandSink.appendAll(line, writer.getCommands());
 
         return null;
     }
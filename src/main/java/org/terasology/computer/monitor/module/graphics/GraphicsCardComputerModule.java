@@ -2,16 +2,18 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.monitor.module.graphics;
 
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.module.DefaultComputerModule;
 import org.terasology.multiBlock2.MultiBlockRegistry;
 
 public class GraphicsCardComputerModule extends DefaultComputerModule {
 
-    public GraphicsCardComputerModule(MultiBlockRegistry multiBlockRegistry, String moduleType, String moduleName) {
+    public GraphicsCardComputerModule(MultiBlockRegistry multiBlockRegistry, DisplayWriteBuffer displayWriteBuffer,
+                                      String moduleType, String moduleName) {
         super(moduleType, moduleName);
 
-        addMethod("getRenderBinding", new GraphicsRenderBindingMethod("getRenderBinding", multiBlockRegistry));
-        addMethod("getMaxRenderBinding", new GraphicsMaxRenderBindingMethod("getMaxRenderBinding", multiBlockRegistry));
+        addMethod("getRenderBinding", new GraphicsRenderBindingMethod("getRenderBinding", multiBlockRegistry, displayWriteBuffer));
+        addMethod("getMaxRenderBinding", new GraphicsMaxRenderBindingMethod("getMaxRenderBinding", multiBlockRegistry, displayWriteBuffer));
         addMethod("clear", new GraphicsClearMethod("clear"));
         addMethod("createOffScreenBuffer", new GraphicsCreateOffScreenBufferMethod("createOffScreenBuffer"));
         addMethod("renderBuffer", new GraphicsRenderBufferMethod("renderBuffer"));
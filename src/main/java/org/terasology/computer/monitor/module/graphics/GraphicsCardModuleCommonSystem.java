@@ -3,6 +3,7 @@
 package org.terasology.computer.monitor.module.graphics;
 
 import org.terasology.computer.display.system.client.DisplayRenderModeRegistry;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.system.common.ComputerLanguageRegistry;
 import org.terasology.computer.system.common.ComputerModuleRegistry;
 import org.terasology.computer.ui.documentation.DocumentationBuilder;
@@ -32,6 +33,8 @@ public class GraphicsCardModuleCommonSystem extends BaseComponentSystem {
     @In
     private DisplayRenderModeRegistry displayRenderModeRegistry;
     @In
+    private DisplayWriteBuffer displayWriteBuffer;
+    @In
     private ComputerLanguageRegistry computerLanguageRegistry;
     @In
     private ModuleConfigManager moduleConfigManager;
@@ -63,7 +66,7 @@ public class GraphicsCardModuleCommonSystem extends BaseComponentSystem {
 
             computerModuleRegistry.registerComputerModule(
                     GRAPHICS_CARD_MODULE_TYPE,
-                    new GraphicsCardComputerModule(multiBlockRegistry, GRAPHICS_CARD_MODULE_TYPE, "Graphics Card"),
+                    new GraphicsCardComputerModule(multiBlockRegistry, displayWriteBuffer, GRAPHICS_CARD_MODULE_TYPE, "Graphics Card"),
                     "This module allows computer to render graphics on displays.",
                     null);
         }
@@ -0,0 +1,13 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.Rectangle;
+
+public interface GraphicsCommand {
+    Rectangle getBounds();
+
+    boolean isClipInvariant();
+
+    void render(GraphicsRenderContext context);
+}
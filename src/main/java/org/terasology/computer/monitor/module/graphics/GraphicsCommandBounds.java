@@ -0,0 +1,34 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Rectangle;
+import java.awt.Stroke;
+
+public final class GraphicsCommandBounds {
+    private static final long MAX_COORDINATE = Integer.MAX_VALUE / 2;
+
+    private GraphicsCommandBounds() {
+    }
+
+    public static Rectangle of(long left, long top, long right, long bottom, Stroke stroke) {
+        return of(left, top, right, bottom, stroke instanceof BasicStroke ? ((BasicStroke) stroke).getLineWidth() : 1);
+    }
+
+    public static Rectangle of(long left, long top, long right, long bottom, float lineWidth) {
+        long margin = (long) Math.ceil(Math.max(lineWidth, 1)) + 1;
+        return rectangle(Math.min(left, right) - margin, Math.min(top, bottom) - margin,
+                Math.max(left, right) + margin, Math.max(top, bottom) + margin);
+    }
+
+    public static Rectangle rectangle(long left, long top, long right, long bottom) {
+        int minX = clamp(left);
+        int minY = clamp(top);
+        return new Rectangle(minX, minY, clamp(right) - minX, clamp(bottom) - minY);
+    }
+
+    private static int clamp(long coordinate) {
+        return (int) Math.max(-MAX_COORDINATE, Math.min(MAX_COORDINATE, coordinate));
+    }
+}
@@ -0,0 +1,247 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import org.terasology.computer.display.DisplayCommandLog;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class GraphicsCommandCompactor {
+    private static final int MAX_COVERS = 16;
+    private static final int MIN_DEFERRED_COMPACTION = 64;
+
+    private GraphicsCommandCompactor() {
+    }
+
+    public static List<String> compact(List<String> previousData, List<String> data, int width, int height) {
+        Rectangle screen = new Rectangle(0, 0, width, height);
+        int unchanged = isPrefix(previousData, data) ? previousData.size() : 0;
+
+        GraphicsPaintTable paintTable = GraphicsPaintTable.of(new DisplayCommandLog(data));
+
+        List<Rectangle> covers = new ArrayList<>();
+        List<String> result = new ArrayList<>(data.size());
+        for (int i = data.size() - 1; i >= 0; i--) {
+            if (i < unchanged && covers.isEmpty()) {
+                for (int j = i; j >= 0; j--) {
+                    result.add(data.get(j));
+                }
+                break;
+            }
+
+            String command = data.get(i);
+            CommandShape shape = parse(command, paintTable);
+            if (shape != null && (!isVisible(shape.bounds, screen) || isCovered(shape.bounds, covers))) {
+                continue;
+            }
+            result.add(command);
+
+            if (i >= unchanged && shape != null && shape.cover != null) {
+                Rectangle cover = shape.cover.intersection(screen);
+                if (cover.contains(screen)) {
+                    for (int j = i - 1; j >= 0; j--) {
+                        if (isPaintDefinition(data.get(j))) {
+                            result.add(data.get(j));
+                        }
+                    }
+                    break;
+                }
+                if (covers.size() < MAX_COVERS) {
+                    covers.add(cover);
+                }
+            }
+        }
+
+        if (result.size() == data.size()) {
+            return data;
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public static void compactAppended(DisplayCommandLog commandLog, int firstAppended, int width, int height) {
+        Rectangle screen = new Rectangle(0, 0, width, height);
+        GraphicsPaintTable paintTable = GraphicsPaintTable.of(commandLog);
+        int size = commandLog.size();
+
+        boolean covering = false;
+        int screenCover = -1;
+        List<String> visibleCommands = new ArrayList<>(size - firstAppended);
+        for (int i = firstAppended; i < size; i++) {
+            String command = commandLog.get(i);
+            CommandShape shape = parse(command, paintTable);
+            if (shape == null || isVisible(shape.bounds, screen)) {
+                if (shape != null && shape.cover != null && shape.cover.contains(screen)) {
+                    screenCover = firstAppended + visibleCommands.size();
+                    covering = false;
+                } else if (shape != null && shape.cover != null) {
+                    covering = true;
+                }
+                visibleCommands.add(command);
+            }
+        }
+
+        if (visibleCommands.size() < size - firstAppended) {
+            commandLog.replaceRange(firstAppended, size, visibleCommands);
+        }
+        if (screenCover >= 0) {
+            List<String> paintDefinitions = new ArrayList<>();
+            for (int i = 0; i < screenCover; i++) {
+                if (isPaintDefinition(commandLog.get(i))) {
+                    paintDefinitions.add(commandLog.get(i));
+                }
+            }
+            commandLog.replaceRange(0, screenCover, paintDefinitions);
+        }
+        paintTable.entriesCompacted(commandLog.size(), screenCover >= 0 && !covering);
+
+        if (paintTable.isCompactionDue(commandLog.size(), covering, MIN_DEFERRED_COMPACTION)) {
+            List<String> data = commandLog.getEntries();
+            List<String> compacted = compact(null, data, width, height);
+            if (compacted != data) {
+                commandLog.replace(compacted);
+                commandLog.setIndex(paintTable);
+            }
+            paintTable.entriesCompacted(commandLog.size(), true);
+        }
+    }
+
+    private static boolean isPrefix(List<String> previousData, List<String> data) {
+        if (previousData == null || previousData.size() > data.size()) {
+            return false;
+        }
+        for (int i = 0; i < previousData.size(); i++) {
+            if (!previousData.get(i).equals(data.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPaintDefinition(String command) {
+        return GraphicsCommandFormat.isEncoded(command)
+                && GraphicsCommandFormat.isPaintDefinition(new GraphicsCommandReader(command).getOpcode());
+    }
+
+    private static boolean isVisible(Rectangle bounds, Rectangle screen) {
+        return bounds.isEmpty() || bounds.intersects(screen);
+    }
+
+    private static boolean isCovered(Rectangle bounds, List<Rectangle> covers) {
+        for (Rectangle cover : covers) {
+            if (cover.contains(bounds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static CommandShape parse(String command, GraphicsPaintTable paintTable) {
+        try {
+            if (GraphicsCommandFormat.isEncoded(command)) {
+                return parseEncoded(command, paintTable);
+            } else if (command.startsWith("text:")) {
+                String[] split = command.substring(5).split(":", 6);
+                int x = Integer.parseInt(split[0]);
+                int y = Integer.parseInt(split[1]);
+                long fontSize = Math.abs((long) Integer.parseInt(split[4]));
+                long textWidth = (split[5].length() * 2L + 1) * fontSize;
+                return new CommandShape(GraphicsCommandBounds.of(x - fontSize, y - 2 * fontSize, x + textWidth, y + fontSize, 1), null);
+            } else if (command.startsWith("drawRect:")) {
+                String[] split = command.substring(9).split(":", 6);
+                return createShape(split, 4, Boolean.parseBoolean(split[5]));
+            } else if (command.startsWith("drawRoundRect:")) {
+                String[] split = command.substring(14).split(":", 8);
+                return createShape(split, 6, false);
+            } else if (command.startsWith("drawOval:")) {
+                String[] split = command.substring(9).split(":", 6);
+                return createShape(split, 4, false);
+            } else if (command.startsWith("drawLine:")) {
+                String[] split = command.substring(9).split(":", 6);
+                int x1 = Integer.parseInt(split[0]);
+                int y1 = Integer.parseInt(split[1]);
+                int x2 = Integer.parseInt(split[2]);
+                int y2 = Integer.parseInt(split[3]);
+                int lineWidth = Integer.parseInt(split[5]);
+                return new CommandShape(GraphicsCommandBounds.of(x1, y1, x2, y2, lineWidth), null);
+            }
+        } catch (RuntimeException exp) {
+            return null;
+        }
+        return null;
+    }
+
+    private static CommandShape parseEncoded(String command, GraphicsPaintTable paintTable) {
+        GraphicsCommandReader reader = new GraphicsCommandReader(command);
+        int opcode = reader.getOpcode();
+        if (GraphicsCommandFormat.isPaintDefinition(opcode)) {
+            return null;
+        }
+
+        int paintIndex = reader.readUnsigned();
+        if (opcode == GraphicsCommandFormat.TEXT) {
+            int x = reader.readInt();
+            int y = reader.readInt();
+            long fontSize = Math.abs((long) reader.readInt());
+            reader.readString();
+            long textWidth = (reader.readString().length() * 2L + 1) * fontSize;
+            return new CommandShape(GraphicsCommandBounds.of(x - fontSize, y - 2 * fontSize, x + textWidth, y + fontSize, 1), null);
+        } else if (opcode == GraphicsCommandFormat.DRAW_LINE) {
+            int x1 = reader.readInt();
+            int y1 = reader.readInt();
+            int x2 = reader.readInt();
+            int y2 = reader.readInt();
+            int lineWidth = reader.readInt();
+            return new CommandShape(GraphicsCommandBounds.of(x1, y1, x2, y2, lineWidth), null);
+        } else if (opcode == GraphicsCommandFormat.DRAW_RECT || opcode == GraphicsCommandFormat.DRAW_OVAL
+                || opcode == GraphicsCommandFormat.DRAW_ROUND_RECT) {
+            int x = reader.readInt();
+            int y = reader.readInt();
+            int width = reader.readInt();
+            int height = reader.readInt();
+            boolean filledRect = opcode == GraphicsCommandFormat.DRAW_RECT && reader.readBoolean();
+            return createShape(x, y, width, height, filledRect && paintTable.isOpaque(paintIndex));
+        }
+        return null;
+    }
+
+    private static CommandShape createShape(String[] split, int paintIndex, boolean filledRect) {
+        int x = Integer.parseInt(split[0]);
+        int y = Integer.parseInt(split[1]);
+        int width = Integer.parseInt(split[2]);
+        int height = Integer.parseInt(split[3]);
+        return createShape(x, y, width, height, filledRect && isOpaque(split[paintIndex]));
+    }
+
+    private static CommandShape createShape(int x, int y, int width, int height, boolean opaqueFill) {
+        Rectangle cover = null;
+        if (opaqueFill && width > 0 && height > 0) {
+            cover = GraphicsCommandBounds.rectangle(x, y, (long) x + width, (long) y + height);
+        }
+        return new CommandShape(GraphicsCommandBounds.of(x, y, (long) x + width, (long) y + height, 1), cover);
+    }
+
+    private static boolean isOpaque(String paintStr) {
+        if (paintStr.startsWith("color(")) {
+            String[] split = paintStr.substring(6, paintStr.length() - 1).split(",");
+            return Integer.parseInt(split[3]) >= 255;
+        } else if (paintStr.startsWith("gradient(")) {
+            String[] split = paintStr.substring(9, paintStr.length() - 1).split(",");
+            return Integer.parseInt(split[3]) >= 255 && Integer.parseInt(split[9]) >= 255;
+        }
+        return false;
+    }
+
+    private static final class CommandShape {
+        private final Rectangle bounds;
+        private final Rectangle cover;
+
+        private CommandShape(Rectangle bounds, Rectangle cover) {
+            this.bounds = bounds;
+            this.cover = cover;
+        }
+    }
+}
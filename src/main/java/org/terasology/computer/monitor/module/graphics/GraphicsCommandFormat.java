@@ -0,0 +1,94 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+import java.util.Arrays;
+
+public final class GraphicsCommandFormat {
+    public static final char VERSION = '#';
+
+    public static final int DIGIT_BITS = 6;
+    public static final int DIGIT_VALUE_BITS = 5;
+    public static final int DIGIT_VALUE_MASK = 0x1f;
+    public static final int DIGIT_CONTINUATION = 0x20;
+    public static final int COLOR_DIGITS = 6;
+
+    public static final int DEFINE_COLOR = 1;
+    public static final int DEFINE_GRADIENT = 2;
+    public static final int TEXT = 3;
+    public static final int DRAW_RECT = 4;
+    public static final int DRAW_ROUND_RECT = 5;
+    public static final int DRAW_OVAL = 6;
+    public static final int DRAW_LINE = 7;
+
+    private static final String DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final int[] DIGIT_VALUES = new int[128];
+
+    static {
+        Arrays.fill(DIGIT_VALUES, -1);
+        for (int i = 0; i < DIGITS.length(); i++) {
+            DIGIT_VALUES[DIGITS.charAt(i)] = i;
+        }
+    }
+
+    private GraphicsCommandFormat() {
+    }
+
+    public static char getDigit(int value) {
+        return DIGITS.charAt(value);
+    }
+
+    public static int getDigitValue(char digit) {
+        int value = digit < DIGIT_VALUES.length ? DIGIT_VALUES[digit] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid digit in graphics command: " + digit);
+        }
+        return value;
+    }
+
+    public static boolean isEncoded(String entry) {
+        return !entry.isEmpty() && entry.charAt(0) == VERSION;
+    }
+
+    public static boolean isPaintDefinition(int opcode) {
+        return opcode == DEFINE_COLOR || opcode == DEFINE_GRADIENT;
+    }
+
+    public static Paint decodePaint(String definition) {
+        GraphicsCommandReader reader = new GraphicsCommandReader(definition);
+        if (reader.getOpcode() == DEFINE_COLOR) {
+            return readColor(reader);
+        } else if (reader.getOpcode() == DEFINE_GRADIENT) {
+            Color color1 = readColor(reader);
+            int x1 = reader.readInt();
+            int y1 = reader.readInt();
+            Color color2 = readColor(reader);
+            int x2 = reader.readInt();
+            int y2 = reader.readInt();
+            boolean cyclic = reader.readBoolean();
+            return new GradientPaint(x1, y1, color1, x2, y2, color2, cyclic);
+        }
+        return null;
+    }
+
+    public static boolean isOpaquePaint(String definition) {
+        GraphicsCommandReader reader = new GraphicsCommandReader(definition);
+        if (reader.getOpcode() == DEFINE_COLOR) {
+            return readColor(reader).getAlpha() >= 255;
+        } else if (reader.getOpcode() == DEFINE_GRADIENT) {
+            Color color1 = readColor(reader);
+            reader.readInt();
+            reader.readInt();
+            Color color2 = readColor(reader);
+            return color1.getAlpha() >= 255 && color2.getAlpha() >= 255;
+        }
+        return false;
+    }
+
+    private static Color readColor(GraphicsCommandReader reader) {
+        return new Color(reader.readColor(), true);
+    }
+}
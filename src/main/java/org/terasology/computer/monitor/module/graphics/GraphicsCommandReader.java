@@ -0,0 +1,58 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+public class GraphicsCommandReader {
+    private final String entry;
+    private final int opcode;
+    private int position = 1;
+
+    public GraphicsCommandReader(String entry) {
+        this.entry = entry;
+        this.opcode = readDigit();
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    public boolean readBoolean() {
+        return readDigit() != 0;
+    }
+
+    public int readUnsigned() {
+        int result = 0;
+        int shift = 0;
+        int value;
+        do {
+            value = readDigit();
+            result |= (value & GraphicsCommandFormat.DIGIT_VALUE_MASK) << shift;
+            shift += GraphicsCommandFormat.DIGIT_VALUE_BITS;
+        } while ((value & GraphicsCommandFormat.DIGIT_CONTINUATION) != 0 && shift < 35);
+        return result;
+    }
+
+    public int readInt() {
+        int value = readUnsigned();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public int readColor() {
+        int result = 0;
+        for (int i = 0; i < GraphicsCommandFormat.COLOR_DIGITS; i++) {
+            result = (result << GraphicsCommandFormat.DIGIT_BITS) | readDigit();
+        }
+        return result;
+    }
+
+    public String readString() {
+        int length = readUnsigned();
+        String result = entry.substring(position, position + length);
+        position += length;
+        return result;
+    }
+
+    private int readDigit() {
+        return GraphicsCommandFormat.getDigitValue(entry.charAt(position++));
+    }
+}
@@ -0,0 +1,149 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GraphicsCommandWriter {
+    private final GraphicsPaintTable paintTable;
+    private final List<String> commands = new ArrayList<>(2);
+    private final Map<String, Integer> newPaintIndices = new HashMap<>();
+
+    public GraphicsCommandWriter(GraphicsPaintTable paintTable) {
+        this.paintTable = paintTable;
+    }
+
+    public List<String> getCommands() {
+        return commands;
+    }
+
+    public int paint(String paintDescription) {
+        String definition = encodePaint(paintDescription);
+        int index = paintTable.getPaintIndex(definition);
+        if (index < 0) {
+            Integer newIndex = newPaintIndices.get(definition);
+            if (newIndex == null) {
+                newIndex = paintTable.getPaintCount() + newPaintIndices.size();
+                newPaintIndices.put(definition, newIndex);
+                commands.add(definition);
+            }
+            index = newIndex;
+        }
+        return index;
+    }
+
+    public void drawText(int x, int y, int paint, String font, int fontSize, String text) {
+        StringBuilder entry = start(GraphicsCommandFormat.TEXT);
+        writeUnsigned(entry, paint);
+        writeInt(entry, x);
+        writeInt(entry, y);
+        writeInt(entry, fontSize);
+        writeString(entry, font);
+        writeString(entry, text);
+        commands.add(entry.toString());
+    }
+
+    public void drawRect(int x, int y, int width, int height, int paint, boolean fill) {
+        commands.add(encodeShape(GraphicsCommandFormat.DRAW_RECT, x, y, width, height, paint, fill));
+    }
+
+    public void drawOval(int x, int y, int width, int height, int paint, boolean fill) {
+        commands.add(encodeShape(GraphicsCommandFormat.DRAW_OVAL, x, y, width, height, paint, fill));
+    }
+
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight, int paint, boolean fill) {
+        StringBuilder entry = start(GraphicsCommandFormat.DRAW_ROUND_RECT);
+        writeUnsigned(entry, paint);
+        writeInt(entry, x);
+        writeInt(entry, y);
+        writeInt(entry, width);
+        writeInt(entry, height);
+        writeInt(entry, arcWidth);
+        writeInt(entry, arcHeight);
+        writeBoolean(entry, fill);
+        commands.add(entry.toString());
+    }
+
+    public void drawLine(int x1, int y1, int x2, int y2, int paint, int lineWidth) {
+        StringBuilder entry = start(GraphicsCommandFormat.DRAW_LINE);
+        writeUnsigned(entry, paint);
+        writeInt(entry, x1);
+        writeInt(entry, y1);
+        writeInt(entry, x2);
+        writeInt(entry, y2);
+        writeInt(entry, lineWidth);
+        commands.add(entry.toString());
+    }
+
+    private String encodeShape(int opcode, int x, int y, int width, int height, int paint, boolean fill) {
+        StringBuilder entry = start(opcode);
+        writeUnsigned(entry, paint);
+        writeInt(entry, x);
+        writeInt(entry, y);
+        writeInt(entry, width);
+        writeInt(entry, height);
+        writeBoolean(entry, fill);
+        return entry.toString();
+    }
+
+    private static String encodePaint(String paintDescription) {
+        if (paintDescription.startsWith("color(")) {
+            String[] split = paintDescription.substring(6, paintDescription.length() - 1).split(",");
+            StringBuilder entry = start(GraphicsCommandFormat.DEFINE_COLOR);
+            writeColor(entry, split, 0);
+            return entry.toString();
+        } else if (paintDescription.startsWith("gradient(")) {
+            String[] split = paintDescription.substring(9, paintDescription.length() - 1).split(",");
+            StringBuilder entry = start(GraphicsCommandFormat.DEFINE_GRADIENT);
+            writeColor(entry, split, 0);
+            writeInt(entry, Integer.parseInt(split[4]));
+            writeInt(entry, Integer.parseInt(split[5]));
+            writeColor(entry, split, 6);
+            writeInt(entry, Integer.parseInt(split[10]));
+            writeInt(entry, Integer.parseInt(split[11]));
+            writeBoolean(entry, Boolean.parseBoolean(split[12]));
+            return entry.toString();
+        }
+        throw new IllegalArgumentException("Unknown paint: " + paintDescription);
+    }
+
+    private static StringBuilder start(int opcode) {
+        return new StringBuilder(16).append(GraphicsCommandFormat.VERSION).append(GraphicsCommandFormat.getDigit(opcode));
+    }
+
+    private static void writeColor(StringBuilder entry, String[] split, int offset) {
+        int red = Integer.parseInt(split[offset]) & 0xff;
+        int green = Integer.parseInt(split[offset + 1]) & 0xff;
+        int blue = Integer.parseInt(split[offset + 2]) & 0xff;
+        int alpha = Integer.parseInt(split[offset + 3]) & 0xff;
+        int argb = (alpha << 24) | (red << 16) | (green << 8) | blue;
+        for (int i = GraphicsCommandFormat.COLOR_DIGITS - 1; i >= 0; i--) {
+            entry.append(GraphicsCommandFormat.getDigit((argb >>> (i * GraphicsCommandFormat.DIGIT_BITS)) & 0x3f));
+        }
+    }
+
+    private static void writeBoolean(StringBuilder entry, boolean value) {
+        entry.append(GraphicsCommandFormat.getDigit(value ? 1 : 0));
+    }
+
+    private static void writeUnsigned(StringBuilder entry, int value) {
+        while ((value & ~GraphicsCommandFormat.DIGIT_VALUE_MASK) != 0) {
+            int digit = (value & GraphicsCommandFormat.DIGIT_VALUE_MASK) | GraphicsCommandFormat.DIGIT_CONTINUATION;
+            entry.append(GraphicsCommandFormat.getDigit(digit));
+            value >>>= GraphicsCommandFormat.DIGIT_VALUE_BITS;
+        }
+        entry.append(GraphicsCommandFormat.getDigit(value));
+    }
+
+    private static void writeInt(StringBuilder entry, int value) {
+        writeUnsigned(entry, (value << 1) ^ (value >> 31));
+    }
+
+    private static void writeString(StringBuilder entry, String value) {
+        writeUnsigned(entry, value.length());
+        entry.append(value);
+    }
+}
@@ -0,0 +1,178 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.Paint;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GraphicsDisplayList {
+    private final GraphicsResourceCache resourceCache;
+    private final List<String> sources = new ArrayList<>();
+    private final List<GraphicsCommand> commands = new ArrayList<>();
+    private final List<Integer> paintCounts = new ArrayList<>();
+    private final List<Paint> paints = new ArrayList<>();
+
+    public GraphicsDisplayList(GraphicsResourceCache resourceCache) {
+        this.resourceCache = resourceCache;
+    }
+
+    public List<GraphicsCommand> update(List<String> data) {
+        int size = data != null ? data.size() : 0;
+        int unchanged = 0;
+        int compiledSize = sources.size();
+        while (unchanged < size && unchanged < compiledSize && data.get(unchanged).equals(sources.get(unchanged))) {
+            unchanged++;
+        }
+
+        if (unchanged < compiledSize) {
+            sources.subList(unchanged, compiledSize).clear();
+            commands.subList(unchanged, compiledSize).clear();
+            paints.subList(paintCounts.get(unchanged), paints.size()).clear();
+            paintCounts.subList(unchanged, compiledSize).clear();
+        }
+
+        for (int i = unchanged; i < size; i++) {
+            String renderable = data.get(i);
+            paintCounts.add(paints.size());
+            commands.add(compile(renderable));
+            sources.add(renderable);
+        }
+
+        return commands;
+    }
+
+    private GraphicsCommand compile(String renderable) {
+        if (GraphicsCommandFormat.isEncoded(renderable)) {
+            return compileEncoded(renderable);
+        } else if (renderable.startsWith("text:")) {
+            return compileText(renderable.substring(5));
+        } else if (renderable.startsWith("drawRect:")) {
+            return compileDrawRect(renderable.substring(9));
+        } else if (renderable.startsWith("drawRoundRect:")) {
+            return compileDrawRoundRect(renderable.substring(14));
+        } else if (renderable.startsWith("drawOval:")) {
+            return compileDrawOval(renderable.substring(9));
+        } else if (renderable.startsWith("drawLine:")) {
+            return compileDrawLine(renderable.substring(9));
+        }
+        return null;
+    }
+
+    private GraphicsCommand compileEncoded(String renderable) {
+        GraphicsCommandReader reader = new GraphicsCommandReader(renderable);
+        int opcode = reader.getOpcode();
+        if (GraphicsCommandFormat.isPaintDefinition(opcode)) {
+            paints.add(resourceCache.getEncodedPaint(renderable));
+            return null;
+        }
+
+        int paintIndex = reader.readUnsigned();
+        Paint paint = paintIndex < paints.size() ? paints.get(paintIndex) : null;
+        if (paint == null) {
+            return null;
+        }
+
+        if (opcode == GraphicsCommandFormat.TEXT) {
+            int x = reader.readInt();
+            int y = reader.readInt();
+            int fontSize = reader.readInt();
+            String font = reader.readString();
+            String text = reader.readString();
+            return new DrawTextCommand(x, y, paint, resourceCache.getFont(font, fontSize), text);
+        } else if (opcode == GraphicsCommandFormat.DRAW_RECT) {
+            int x = reader.readInt();
+            int y = reader.readInt();
+            int width = reader.readInt();
+            int height = reader.readInt();
+            boolean fill = reader.readBoolean();
+            return new DrawRectCommand(x, y, width, height, paint, resourceCache.getStroke(1), fill);
+        } else if (opcode == GraphicsCommandFormat.DRAW_ROUND_RECT) {
+            int x = reader.readInt();
+            int y = reader.readInt();
+            int width = reader.readInt();
+            int height = reader.readInt();
+            int arcWidth = reader.readInt();
+            int arcHeight = reader.readInt();
+            boolean fill = reader.readBoolean();
+            return new DrawRoundRectCommand(x, y, width, height, arcWidth, arcHeight, paint, resourceCache.getStroke(1), fill);
+        } else if (opcode == GraphicsCommandFormat.DRAW_OVAL) {
+            int x = reader.readInt();
+            int y = reader.readInt();
+            int width = reader.readInt();
+            int height = reader.readInt();
+            boolean fill = reader.readBoolean();
+            return new DrawOvalCommand(x, y, width, height, paint, resourceCache.getStroke(1), fill);
+        } else if (opcode == GraphicsCommandFormat.DRAW_LINE) {
+            int x1 = reader.readInt();
+            int y1 = reader.readInt();
+            int x2 = reader.readInt();
+            int y2 = reader.readInt();
+            int lineWidth = reader.readInt();
+            return new DrawLineCommand(x1, y1, x2, y2, paint, resourceCache.getStroke(lineWidth));
+        }
+        return null;
+    }
+
+    private GraphicsCommand compileText(String renderable) {
+        String[] split = renderable.split(":", 6);
+        int x = Integer.parseInt(split[0]);
+        int y = Integer.parseInt(split[1]);
+        String paintStr = split[2];
+        String font = split[3];
+        int fontSize = Integer.parseInt(split[4]);
+        String text = split[5];
+
+        return new DrawTextCommand(x, y, resourceCache.getPaint(paintStr), resourceCache.getFont(font, fontSize), text);
+    }
+
+    private GraphicsCommand compileDrawRect(String renderable) {
+        String[] split = renderable.split(":", 6);
+        int x = Integer.parseInt(split[0]);
+        int y = Integer.parseInt(split[1]);
+        int width = Integer.parseInt(split[2]);
+        int height = Integer.parseInt(split[3]);
+        String paintStr = split[4];
+        boolean fill = Boolean.parseBoolean(split[5]);
+
+        return new DrawRectCommand(x, y, width, height, resourceCache.getPaint(paintStr), resourceCache.getStroke(1), fill);
+    }
+
+    private GraphicsCommand compileDrawLine(String renderable) {
+        String[] split = renderable.split(":", 6);
+        int x1 = Integer.parseInt(split[0]);
+        int y1 = Integer.parseInt(split[1]);
+        int x2 = Integer.parseInt(split[2]);
+        int y2 = Integer.parseInt(split[3]);
+        String paintStr = split[4];
+        int lineWidth = Integer.parseInt(split[5]);
+
+        return new DrawLineCommand(x1, y1, x2, y2, resourceCache.getPaint(paintStr), resourceCache.getStroke(lineWidth));
+    }
+
+    private GraphicsCommand compileDrawOval(String renderable) {
+        String[] split = renderable.split(":", 6);
+        int x = Integer.parseInt(split[0]);
+        int y = Integer.parseInt(split[1]);
+        int width = Integer.parseInt(split[2]);
+        int height = Integer.parseInt(split[3]);
+        String paintStr = split[4];
+        boolean fill = Boolean.parseBoolean(split[5]);
+
+        return new DrawOvalCommand(x, y, width, height, resourceCache.getPaint(paintStr), resourceCache.getStroke(1), fill);
+    }
+
+    private GraphicsCommand compileDrawRoundRect(String renderable) {
+        String[] split = renderable.split(":", 8);
+        int x = Integer.parseInt(split[0]);
+        int y = Integer.parseInt(split[1]);
+        int width = Integer.parseInt(split[2]);
+        int height = Integer.parseInt(split[3]);
+        int arcWidth = Integer.parseInt(split[4]);
+        int arcHeight = Integer.parseInt(split[5]);
+        String paintStr = split[6];
+        boolean fill = Boolean.parseBoolean(split[7]);
+
+        return new DrawRoundRectCommand(x, y, width, height, arcWidth, arcHeight, resourceCache.getPaint(paintStr), resourceCache.getStroke(1), fill);
+    }
+}
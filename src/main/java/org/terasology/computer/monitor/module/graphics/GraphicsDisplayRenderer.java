@@ -2,184 +2,163 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.monitor.module.graphics;
 
+import org.joml.Vector2i;
+import org.terasology.computer.display.system.client.DisplayRaster;
 import org.terasology.computer.display.system.client.DisplayRenderer;
-import org.terasology.engine.rendering.assets.material.Material;
-import org.terasology.engine.rendering.assets.material.MaterialData;
-import org.terasology.engine.rendering.assets.texture.Texture;
-import org.terasology.engine.rendering.assets.texture.TextureData;
-import org.terasology.engine.rendering.assets.texture.TextureUtil;
-import org.terasology.engine.utilities.Assets;
-
-import java.awt.BasicStroke;
+
 import java.awt.Color;
-import java.awt.Font;
-import java.awt.GradientPaint;
 import java.awt.Graphics2D;
-import java.awt.Paint;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
-import java.awt.image.BufferedImage;
-import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 public class GraphicsDisplayRenderer implements DisplayRenderer {
+    private static final int TILE_SIZE = 128;
+    private static final int MIN_PARALLEL_PIXELS = 256 * 256;
+    private static final int MIN_PARALLEL_COMMANDS = 32;
+
+    private GraphicsResourceCache resourceCache = new GraphicsResourceCache();
+
     @Override
-    public Material renderMaterial(String mode, List<String> data) {
+    public Vector2i getResolution(String mode) {
         String[] size = mode.split(":")[1].split(",");
-        int width = Integer.parseInt(size[0]);
-        int height = Integer.parseInt(size[1]);
+        return new Vector2i(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    }
 
-        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D gr = (Graphics2D) image.getGraphics();
-        try {
-            gr.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            gr.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-            gr.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    @Override
+    public void render(DisplayRaster raster, String mode, List<String> data) {
+        int width = raster.getWidth();
+        int height = raster.getHeight();
 
-            gr.setColor(Color.BLACK);
-            gr.fillRect(0, 0, width, height);
-
-            if (data != null) {
-                for (String renderable : data) {
-                    if (renderable.startsWith("text:")) {
-                        renderText(gr, renderable.substring(5));
-                    } else if (renderable.startsWith("drawRect:")) {
-                        renderDrawRect(gr, renderable.substring(9));
-                    } else if (renderable.startsWith("drawRoundRect:")) {
-                        renderDrawRoundRect(gr, renderable.substring(14));
-                    } else if (renderable.startsWith("drawOval:")) {
-                        renderDrawOval(gr, renderable.substring(9));
-                    } else if (renderable.startsWith("drawLine:")) {
-                        renderDrawLine(gr, renderable.substring(9));
-                    }
+        raster.setRgbaPixels(false);
+        raster.setRendererState(null);
+
+        List<GraphicsCommand> commands = getDisplayList(raster).update(data);
+        if (width * height < MIN_PARALLEL_PIXELS || commands.size() < MIN_PARALLEL_COMMANDS) {
+            renderRegion(raster, commands, 0, 0, width, height, true);
+            return;
+        }
+
+        boolean clear = true;
+        int sequentialStart = 0;
+        int index = 0;
+        while (index < commands.size()) {
+            if (!isClipInvariant(commands.get(index))) {
+                index++;
+                continue;
+            }
+            int runEnd = index;
+            while (runEnd < commands.size() && isClipInvariant(commands.get(runEnd))) {
+                runEnd++;
+            }
+            if (runEnd - index >= MIN_PARALLEL_COMMANDS) {
+                if (sequentialStart < index) {
+                    renderRegion(raster, commands.subList(sequentialStart, index), 0, 0, width, height, clear);
+                    clear = false;
                 }
+                renderTiles(raster, commands.subList(index, runEnd), clear);
+                clear = false;
+                sequentialStart = runEnd;
             }
-        } finally {
-            gr.dispose();
+            index = runEnd;
+        }
+        if (sequentialStart < commands.size() || clear) {
+            renderRegion(raster, commands.subList(sequentialStart, commands.size()), 0, 0, width, height, clear);
         }
-
-        ByteBuffer resultBuffer = TextureUtil.convertToByteBuffer(image);
-
-        Texture texture = Assets.generateAsset(new TextureData(width, height, new ByteBuffer[]{resultBuffer},
-                Texture.WrapMode.REPEAT, Texture.FilterMode.NEAREST), Texture.class);
-
-        MaterialData terrainMatData = new MaterialData(Assets.getShader("engine:genericMeshMaterial").get());
-        terrainMatData.setParam("diffuse", texture);
-        terrainMatData.setParam("colorOffset", new float[]{1, 1, 1});
-        terrainMatData.setParam("textured", true);
-        return Assets.generateAsset(terrainMatData, Material.class);
     }
 
-    private void renderText(Graphics2D gr, String renderable) {
-        String[] split = renderable.split(":", 6);
-        int x = Integer.parseInt(split[0]);
-        int y = Integer.parseInt(split[1]);
-        String paintStr = split[2];
-        String font = split[3];
-        int fontSize = Integer.parseInt(split[4]);
-        String text = split[5];
-
-        gr.setPaint(createPaint(paintStr));
-        gr.setFont(new Font(font, Font.PLAIN, fontSize));
-        gr.drawString(text, x, y);
+    private static boolean isClipInvariant(GraphicsCommand command) {
+        return command == null || command.isClipInvariant();
     }
 
-    private void renderDrawRect(Graphics2D gr, String renderable) {
-        String[] split = renderable.split(":", 6);
-        int x = Integer.parseInt(split[0]);
-        int y = Integer.parseInt(split[1]);
-        int width = Integer.parseInt(split[2]);
-        int height = Integer.parseInt(split[3]);
-        String paintStr = split[4];
-        boolean fill = Boolean.parseBoolean(split[5]);
-
-        gr.setStroke(new BasicStroke(1));
-        gr.setPaint(createPaint(paintStr));
-        if (fill) {
-            gr.fillRect(x, y, width, height);
-        } else {
-            gr.drawRect(x, y, width, height);
+    private void renderTiles(DisplayRaster raster, List<GraphicsCommand> commands, boolean clear) {
+        int width = raster.getWidth();
+        int height = raster.getHeight();
+        int downscale = raster.getDownscale();
+        int tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+
+        List<List<GraphicsCommand>> tileCommands = new ArrayList<>(tilesX * tilesY);
+        for (int i = 0; i < tilesX * tilesY; i++) {
+            tileCommands.add(new ArrayList<>());
         }
-    }
 
-    private void renderDrawLine(Graphics2D gr, String renderable) {
-        String[] split = renderable.split(":", 6);
-        int x1 = Integer.parseInt(split[0]);
-        int y1 = Integer.parseInt(split[1]);
-        int x2 = Integer.parseInt(split[2]);
-        int y2 = Integer.parseInt(split[3]);
-        String paintStr = split[4];
-        int lineWidth = Integer.parseInt(split[5]);
-
-        gr.setStroke(new BasicStroke(lineWidth));
-        gr.setPaint(createPaint(paintStr));
-        gr.drawLine(x1, y1, x2, y2);
-    }
+        for (GraphicsCommand command : commands) {
+            if (command == null) {
+                continue;
+            }
+            int firstTileX = 0;
+            int firstTileY = 0;
+            int lastTileX = tilesX - 1;
+            int lastTileY = tilesY - 1;
+            Rectangle bounds = command.getBounds();
+            if (bounds != null) {
+                firstTileX = Math.max(firstTileX, Math.floorDiv(Math.floorDiv(bounds.x, downscale), TILE_SIZE));
+                firstTileY = Math.max(firstTileY, Math.floorDiv(Math.floorDiv(bounds.y, downscale), TILE_SIZE));
+                lastTileX = Math.min(lastTileX, Math.floorDiv(Math.floorDiv(bounds.x + bounds.width, downscale) + 1, TILE_SIZE));
+                lastTileY = Math.min(lastTileY, Math.floorDiv(Math.floorDiv(bounds.y + bounds.height, downscale) + 1, TILE_SIZE));
+            }
+            for (int tileY = firstTileY; tileY <= lastTileY; tileY++) {
+                for (int tileX = firstTileX; tileX <= lastTileX; tileX++) {
+                    tileCommands.get(tileY * tilesX + tileX).add(command);
+                }
+            }
+        }
 
-    private void renderDrawOval(Graphics2D gr, String renderable) {
-        String[] split = renderable.split(":", 6);
-        int x = Integer.parseInt(split[0]);
-        int y = Integer.parseInt(split[1]);
-        int width = Integer.parseInt(split[2]);
-        int height = Integer.parseInt(split[3]);
-        String paintStr = split[4];
-        boolean fill = Boolean.parseBoolean(split[5]);
-
-        gr.setStroke(new BasicStroke(1));
-        gr.setPaint(createPaint(paintStr));
-        if (fill) {
-            gr.fillOval(x, y, width, height);
-        } else {
-            gr.drawOval(x, y, width, height);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(tilesX * tilesY);
+        for (int tileY = 0; tileY < tilesY; tileY++) {
+            for (int tileX = 0; tileX < tilesX; tileX++) {
+                List<GraphicsCommand> commandsInTile = tileCommands.get(tileY * tilesX + tileX);
+                int left = tileX * TILE_SIZE;
+                int top = tileY * TILE_SIZE;
+                int right = Math.min(width, left + TILE_SIZE);
+                int bottom = Math.min(height, top + TILE_SIZE);
+                tasks.add(ForkJoinTask.adapt(() -> renderRegion(raster, commandsInTile, left, top, right, bottom, clear)));
+            }
         }
+        ForkJoinTask.invokeAll(tasks);
     }
 
-    private void renderDrawRoundRect(Graphics2D gr, String renderable) {
-        String[] split = renderable.split(":", 8);
-        int x = Integer.parseInt(split[0]);
-        int y = Integer.parseInt(split[1]);
-        int width = Integer.parseInt(split[2]);
-        int height = Integer.parseInt(split[3]);
-        int arcWidth = Integer.parseInt(split[4]);
-        int arcHeight = Integer.parseInt(split[5]);
-        String paintStr = split[6];
-        boolean fill = Boolean.parseBoolean(split[7]);
-
-        gr.setStroke(new BasicStroke(1));
-        gr.setPaint(createPaint(paintStr));
-        if (fill) {
-            gr.fillRoundRect(x, y, width, height, arcWidth, arcHeight);
-        } else {
-            gr.drawRoundRect(x, y, width, height, arcWidth, arcHeight);
+    private void renderRegion(DisplayRaster raster, List<GraphicsCommand> commands, int left, int top, int right, int bottom,
+                              boolean clear) {
+        Graphics2D gr = raster.getImage().createGraphics();
+        try {
+            gr.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            gr.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+            gr.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+            gr.clipRect(left, top, right - left, bottom - top);
+            if (clear) {
+                gr.setColor(Color.BLACK);
+                gr.fillRect(left, top, right - left, bottom - top);
+            }
+
+            int downscale = raster.getDownscale();
+            if (downscale > 1) {
+                gr.scale(1.0 / downscale, 1.0 / downscale);
+            }
+
+            GraphicsSpanRasterizer rasterizer = new GraphicsSpanRasterizer(raster.getPixels(), raster.getWidth(),
+                    left, top, right, bottom, 1f / downscale);
+            GraphicsRenderContext context = new GraphicsRenderContext(gr, rasterizer);
+            for (GraphicsCommand command : commands) {
+                if (command != null) {
+                    command.render(context);
+                }
+            }
+        } finally {
+            gr.dispose();
         }
     }
 
-    private Paint createPaint(String paintStr) {
-        if (paintStr.startsWith("color(")) {
-            String[] split = paintStr.substring(6, paintStr.length() - 1).split(",");
-            int r = Integer.parseInt(split[0]);
-            int g = Integer.parseInt(split[1]);
-            int b = Integer.parseInt(split[2]);
-            int a = Integer.parseInt(split[3]);
-
-            return new Color(r, g, b, a);
-        } else if (paintStr.startsWith("gradient(")) {
-            String[] split = paintStr.substring(9, paintStr.length() - 1).split(",");
-            int r1 = Integer.parseInt(split[0]);
-            int g1 = Integer.parseInt(split[1]);
-            int b1 = Integer.parseInt(split[2]);
-            int a1 = Integer.parseInt(split[3]);
-            int x1 = Integer.parseInt(split[4]);
-            int y1 = Integer.parseInt(split[5]);
-            int r2 = Integer.parseInt(split[6]);
-            int g2 = Integer.parseInt(split[7]);
-            int b2 = Integer.parseInt(split[8]);
-            int a2 = Integer.parseInt(split[9]);
-            int x2 = Integer.parseInt(split[10]);
-            int y2 = Integer.parseInt(split[11]);
-            boolean cyclic = Boolean.parseBoolean(split[12]);
-
-            return new GradientPaint(x1, y1, new Color(r1, g1, b1, a1), x2, y2, new Color(r2, g2, b2, a2), cyclic);
+    private GraphicsDisplayList getDisplayList(DisplayRaster raster) {
+        if (raster.getCompiledData() instanceof GraphicsDisplayList) {
+            return (GraphicsDisplayList) raster.getCompiledData();
         }
-        return null;
+        GraphicsDisplayList displayList = new GraphicsDisplayList(resourceCache);
+        raster.setCompiledData(displayList);
+        return displayList;
     }
 }
@@ -12,6 +12,7 @@ import org.terasology.computer.FunctionParamValidationUtil;
 import org.terasology.computer.context.ComputerCallback;
 import org.terasology.computer.display.component.DisplayComponent;
 import org.terasology.computer.display.system.server.DisplayServerSystem;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.math.Direction;
@@ -22,12 +23,14 @@ import java.util.Map;
 public class GraphicsMaxRenderBindingMethod extends AbstractModuleMethodExecutable<Object> {
     private final String methodName;
     private MultiBlockRegistry multiBlockRegistry;
+    private DisplayWriteBuffer displayWriteBuffer;
 
-    public GraphicsMaxRenderBindingMethod(String methodName, MultiBlockRegistry multiBlockRegistry) {
+    public GraphicsMaxRenderBindingMethod(String methodName, MultiBlockRegistry multiBlockRegistry, DisplayWriteBuffer displayWriteBuffer) {
         super("Returns Graphics Render Binding that allows to render graphics on a " +
                         "connected display. Maximum resolution will be set on the device when binding is used.",
                 "GraphicsRenderBinding", "Binding for the specified direction and maximum available resolution.");
         this.multiBlockRegistry = multiBlockRegistry;
+        this.displayWriteBuffer = displayWriteBuffer;
         this.methodName = methodName;
 
         addParameter("direction", "Direction", "Direction of the binding in reference to computer.");
@@ -71,6 +74,7 @@ public class GraphicsMaxRenderBindingMethod extends AbstractModuleMethodExecutab
         int width = Math.max(monitorSize.x, monitorSize.z);
         int height = monitorSize.y;
 
-        return new RelativeLiveGraphicsRenderBindingCustomObject(multiBlockRegistry, direction, "Graphics:", width, height);
+        return new RelativeLiveGraphicsRenderBindingCustomObject(multiBlockRegistry, displayWriteBuffer, direction, "Graphics:",
+                width, height);
     }
 }
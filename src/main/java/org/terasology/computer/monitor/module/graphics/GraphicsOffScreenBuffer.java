@@ -6,15 +6,15 @@ import com.gempukku.lang.CustomObject;
 import com.gempukku.lang.ExecutionException;
 import org.joml.Vector2i;
 import org.terasology.computer.context.ComputerCallback;
+import org.terasology.computer.display.DisplayCommandLog;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
 public class GraphicsOffScreenBuffer implements CustomObject, GraphicsRenderBinding, GraphicsBuffer, GraphicsRenderCommandSink {
     private Vector2i resolution;
-    private List<String> data = new ArrayList<>();
+    private DisplayCommandLog commandLog = new DisplayCommandLog();
 
     public GraphicsOffScreenBuffer(Vector2i resolution) {
         this.resolution = resolution;
@@ -47,16 +47,31 @@ public class GraphicsOffScreenBuffer implements CustomObject, GraphicsRenderBind
 
     @Override
     public List<String> getData() {
-        return data;
+        return commandLog.getEntries();
     }
 
     @Override
     public List<String> getExistingData(int line) {
-        return data;
+        return commandLog.getEntries();
     }
 
     @Override
     public void setData(int line, List<String> dataList) {
-        this.data = dataList;
+        commandLog.replace(dataList);
+    }
+
+    @Override
+    public void append(int line, String command) {
+        commandLog.append(command);
+    }
+
+    @Override
+    public void appendAll(int line, List<String> commands) {
+        commandLog.appendAll(commands);
+    }
+
+    @Override
+    public GraphicsPaintTable getPaintTable(int line) {
+        return GraphicsPaintTable.of(commandLog);
     }
 }
@@ -0,0 +1,76 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import org.terasology.computer.display.DisplayCommandLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GraphicsPaintTable {
+    private final Map<String, Integer> paintIndices = new HashMap<>();
+    private final List<Boolean> opaquePaints = new ArrayList<>();
+    private int scannedEntries;
+    private int compactedEntries;
+    private boolean coverPending;
+
+    public static GraphicsPaintTable of(DisplayCommandLog commandLog) {
+        GraphicsPaintTable paintTable;
+        if (commandLog.getIndex() instanceof GraphicsPaintTable) {
+            paintTable = (GraphicsPaintTable) commandLog.getIndex();
+        } else {
+            paintTable = new GraphicsPaintTable();
+            commandLog.setIndex(paintTable);
+        }
+        paintTable.update(commandLog);
+        return paintTable;
+    }
+
+    public int getPaintCount() {
+        return opaquePaints.size();
+    }
+
+    public int getPaintIndex(String definition) {
+        Integer index = paintIndices.get(definition);
+        return index != null ? index : -1;
+    }
+
+    public boolean isOpaque(int paintIndex) {
+        return paintIndex < opaquePaints.size() && opaquePaints.get(paintIndex);
+    }
+
+    void entriesCompacted(int entries, boolean fullyCompacted) {
+        scannedEntries = entries;
+        if (fullyCompacted) {
+            compactedEntries = entries;
+            coverPending = false;
+        }
+    }
+
+    boolean isCompactionDue(int entries, boolean coverAppended, int minimumEntries) {
+        coverPending |= coverAppended;
+        return coverPending && entries >= Math.max(minimumEntries, 2 * compactedEntries);
+    }
+
+    private void update(DisplayCommandLog commandLog) {
+        for (int i = scannedEntries; i < commandLog.size(); i++) {
+            String entry = commandLog.get(i);
+            if (GraphicsCommandFormat.isEncoded(entry)
+                    && GraphicsCommandFormat.isPaintDefinition(new GraphicsCommandReader(entry).getOpcode())) {
+                paintIndices.putIfAbsent(entry, opaquePaints.size());
+                opaquePaints.add(isOpaqueDefinition(entry));
+            }
+        }
+        scannedEntries = commandLog.size();
+    }
+
+    private static boolean isOpaqueDefinition(String definition) {
+        try {
+            return GraphicsCommandFormat.isOpaquePaint(definition);
+        } catch (RuntimeException exp) {
+            return false;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.gempukku.lang.ExecutionException;
 import com.gempukku.lang.Variable;
 import org.terasology.computer.FunctionParamValidationUtil;
 import org.terasology.computer.context.ComputerCallback;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 import org.terasology.engine.math.Direction;
 import org.terasology.multiBlock2.MultiBlockRegistry;
@@ -15,12 +16,14 @@ import java.util.Map;
 public class GraphicsRenderBindingMethod extends AbstractModuleMethodExecutable<Object> {
     private final String methodName;
     private MultiBlockRegistry multiBlockRegistry;
+    private DisplayWriteBuffer displayWriteBuffer;
 
-    public GraphicsRenderBindingMethod(String methodName, MultiBlockRegistry multiBlockRegistry) {
+    public GraphicsRenderBindingMethod(String methodName, MultiBlockRegistry multiBlockRegistry, DisplayWriteBuffer displayWriteBuffer) {
         super("Returns Graphics Render Binding that allows to render graphics on a " +
                         "connected display. Specified resolution will be set on the device when binding is used.",
                 "GraphicsRenderBinding", "Binding for the specified direction and resolution.");
         this.multiBlockRegistry = multiBlockRegistry;
+        this.displayWriteBuffer = displayWriteBuffer;
         this.methodName = methodName;
 
         addParameter("direction", "Direction", "Direction of the binding in reference to computer.");
@@ -52,6 +55,7 @@ public class GraphicsRenderBindingMethod extends AbstractModuleMethodExecutable<
         int height = FunctionParamValidationUtil.validateIntParameter(line, parameters, "height", methodName);
 
 
-        return new RelativeLiveGraphicsRenderBindingCustomObject(multiBlockRegistry, direction, "Graphics:", width, height);
+        return new RelativeLiveGraphicsRenderBindingCustomObject(multiBlockRegistry, displayWriteBuffer, direction, "Graphics:",
+                width, height);
     }
 }
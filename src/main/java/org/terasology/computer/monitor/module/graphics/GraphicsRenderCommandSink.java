@@ -2,9 +2,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.monitor.module.graphics;
 
+import com.gempukku.lang.ExecutionException;
 import org.joml.Vector2i;
 import org.terasology.computer.monitor.module.RenderCommandSink;
 
 public interface GraphicsRenderCommandSink extends RenderCommandSink {
     Vector2i getResolution();
+
+    GraphicsPaintTable getPaintTable(int line) throws ExecutionException;
 }
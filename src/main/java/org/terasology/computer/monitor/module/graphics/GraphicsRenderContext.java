@@ -0,0 +1,68 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Stroke;
+
+public class GraphicsRenderContext {
+    private final Graphics2D graphics;
+    private final GraphicsSpanRasterizer rasterizer;
+
+    private Paint paint;
+    private Stroke stroke;
+    private Font font;
+
+    private Paint appliedPaint;
+    private Stroke appliedStroke;
+    private Font appliedFont;
+
+    public GraphicsRenderContext(Graphics2D graphics, GraphicsSpanRasterizer rasterizer) {
+        this.graphics = graphics;
+        this.rasterizer = rasterizer;
+    }
+
+    public GraphicsSpanRasterizer getRasterizer() {
+        return rasterizer;
+    }
+
+    public Paint getPaint() {
+        return paint;
+    }
+
+    public Stroke getStroke() {
+        return stroke;
+    }
+
+    public void setPaint(Paint paint) {
+        if (paint != null) {
+            this.paint = paint;
+        }
+    }
+
+    public void setStroke(Stroke stroke) {
+        this.stroke = stroke;
+    }
+
+    public void setFont(Font font) {
+        this.font = font;
+    }
+
+    public Graphics2D getGraphics() {
+        if (paint != appliedPaint) {
+            graphics.setPaint(paint);
+            appliedPaint = paint;
+        }
+        if (stroke != appliedStroke) {
+            graphics.setStroke(stroke);
+            appliedStroke = stroke;
+        }
+        if (font != appliedFont) {
+            graphics.setFont(font);
+            appliedFont = font;
+        }
+        return graphics;
+    }
+}
@@ -0,0 +1,119 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+import java.awt.Stroke;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class GraphicsResourceCache {
+    private static final int MAX_FONTS = 64;
+    private static final int MAX_PAINTS = 256;
+    private static final int MAX_STROKES = 32;
+
+    private final Map<FontKey, Font> fonts = createLruMap(MAX_FONTS);
+    private final Map<String, Paint> paints = createLruMap(MAX_PAINTS);
+    private final Map<String, Paint> encodedPaints = createLruMap(MAX_PAINTS);
+    private final Map<Integer, Stroke> strokes = createLruMap(MAX_STROKES);
+
+    public Font getFont(String name, int size) {
+        return get(fonts, new FontKey(name, size), key -> new Font(key.name, Font.PLAIN, key.size));
+    }
+
+    public Paint getPaint(String paintStr) {
+        return get(paints, paintStr, this::createPaint);
+    }
+
+    public Paint getEncodedPaint(String definition) {
+        return get(encodedPaints, definition, GraphicsCommandFormat::decodePaint);
+    }
+
+    public Stroke getStroke(int width) {
+        return get(strokes, width, BasicStroke::new);
+    }
+
+    private <K, V> V get(Map<K, V> cache, K key, Function<K, V> factory) {
+        synchronized (cache) {
+            V value = cache.get(key);
+            if (value == null) {
+                value = factory.apply(key);
+                if (value != null) {
+                    cache.put(key, value);
+                }
+            }
+            return value;
+        }
+    }
+
+    private Paint createPaint(String paintStr) {
+        if (paintStr.startsWith("color(")) {
+            String[] split = paintStr.substring(6, paintStr.length() - 1).split(",");
+            int r = Integer.parseInt(split[0]);
+            int g = Integer.parseInt(split[1]);
+            int b = Integer.parseInt(split[2]);
+            int a = Integer.parseInt(split[3]);
+
+            return new Color(r, g, b, a);
+        } else if (paintStr.startsWith("gradient(")) {
+            String[] split = paintStr.substring(9, paintStr.length() - 1).split(",");
+            int r1 = Integer.parseInt(split[0]);
+            int g1 = Integer.parseInt(split[1]);
+            int b1 = Integer.parseInt(split[2]);
+            int a1 = Integer.parseInt(split[3]);
+            int x1 = Integer.parseInt(split[4]);
+            int y1 = Integer.parseInt(split[5]);
+            int r2 = Integer.parseInt(split[6]);
+            int g2 = Integer.parseInt(split[7]);
+            int b2 = Integer.parseInt(split[8]);
+            int a2 = Integer.parseInt(split[9]);
+            int x2 = Integer.parseInt(split[10]);
+            int y2 = Integer.parseInt(split[11]);
+            boolean cyclic = Boolean.parseBoolean(split[12]);
+
+            return new GradientPaint(x1, y1, new Color(r1, g1, b1, a1), x2, y2, new Color(r2, g2, b2, a2), cyclic);
+        }
+        return null;
+    }
+
+    private static <K, V> Map<K, V> createLruMap(int maxSize) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private static final class FontKey {
+        private final String name;
+        private final int size;
+
+        private FontKey(String name, int size) {
+            this.name = name;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FontKey fontKey = (FontKey) o;
+            return size == fontKey.size && name.equals(fontKey.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + size;
+        }
+    }
+}
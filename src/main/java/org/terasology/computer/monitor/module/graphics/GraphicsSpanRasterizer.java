@@ -0,0 +1,379 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.graphics;
+
+import java.util.Arrays;
+
+public class GraphicsSpanRasterizer {
+    private static final int SUBSAMPLES = 8;
+    private static final float SUBSAMPLE_WEIGHT = 1f / SUBSAMPLES;
+
+    private final int[] pixels;
+    private final int width;
+    private final int clipLeft;
+    private final int clipTop;
+    private final int clipRight;
+    private final int clipBottom;
+    private final float scale;
+
+    private final float[] coverage;
+    private final float[] spans = new float[4];
+    private final float[] rects = new float[16];
+    private int coverageLeft;
+    private int coverageRight;
+
+    public GraphicsSpanRasterizer(int[] pixels, int width, int clipLeft, int clipTop, int clipRight, int clipBottom, float scale) {
+        this.pixels = pixels;
+        this.width = width;
+        this.clipLeft = clipLeft;
+        this.clipTop = clipTop;
+        this.clipRight = clipRight;
+        this.clipBottom = clipBottom;
+        this.scale = scale;
+        this.coverage = new float[width];
+        resetCoverageBounds();
+    }
+
+    public void fillRect(int x, int y, int rectWidth, int rectHeight, int argb) {
+        if (rectWidth <= 0 || rectHeight <= 0) {
+            return;
+        }
+        setRect(0, x * scale, y * scale, ((float) x + rectWidth) * scale, ((float) y + rectHeight) * scale);
+        fillRects(1, argb);
+    }
+
+    public void strokeRect(int x, int y, int rectWidth, int rectHeight, float lineWidth, int argb) {
+        if (rectWidth < 0 || rectHeight < 0) {
+            return;
+        }
+        float halfWidth = lineWidth * scale / 2;
+        float left = normalize(x * scale);
+        float top = normalize(y * scale);
+        float right = normalize(((float) x + rectWidth) * scale);
+        float bottom = normalize(((float) y + rectHeight) * scale);
+
+        float outerLeft = left - halfWidth;
+        float outerTop = top - halfWidth;
+        float outerRight = right + halfWidth;
+        float outerBottom = bottom + halfWidth;
+        float innerLeft = left + halfWidth;
+        float innerTop = top + halfWidth;
+        float innerRight = right - halfWidth;
+        float innerBottom = bottom - halfWidth;
+        if (innerLeft < innerRight && innerTop < innerBottom) {
+            setRect(0, outerLeft, outerTop, outerRight, innerTop);
+            setRect(1, outerLeft, innerBottom, outerRight, outerBottom);
+            setRect(2, outerLeft, innerTop, innerLeft, innerBottom);
+            setRect(3, innerRight, innerTop, outerRight, innerBottom);
+            fillRects(4, argb);
+        } else {
+            setRect(0, outerLeft, outerTop, outerRight, outerBottom);
+            fillRects(1, argb);
+        }
+    }
+
+    public void strokeAxisAlignedLine(int x1, int y1, int x2, int y2, float lineWidth, int argb) {
+        float halfWidth = lineWidth * scale / 2;
+        setRect(0,
+                normalize(Math.min(x1, x2) * scale) - halfWidth,
+                normalize(Math.min(y1, y2) * scale) - halfWidth,
+                normalize(Math.max(x1, x2) * scale) + halfWidth,
+                normalize(Math.max(y1, y2) * scale) + halfWidth);
+        fillRects(1, argb);
+    }
+
+    public void strokeLine(int x1, int y1, int x2, int y2, float lineWidth, int argb) {
+        if (x1 == x2 || y1 == y2) {
+            strokeAxisAlignedLine(x1, y1, x2, y2, lineWidth, argb);
+            return;
+        }
+        float startX = normalize(x1 * scale);
+        float startY = normalize(y1 * scale);
+        float endX = normalize(x2 * scale);
+        float endY = normalize(y2 * scale);
+        float length = (float) Math.hypot(endX - startX, endY - startY);
+        float halfWidth = lineWidth * scale / 2;
+        float alongX = (endX - startX) / length * halfWidth;
+        float alongY = (endY - startY) / length * halfWidth;
+
+        float[] cornersX = {
+            startX - alongX - alongY, endX + alongX - alongY, endX + alongX + alongY, startX - alongX + alongY};
+        float[] cornersY = {
+            startY - alongY + alongX, endY + alongY + alongX, endY + alongY - alongX, startY - alongY - alongX};
+        float top = Math.min(Math.min(cornersY[0], cornersY[1]), Math.min(cornersY[2], cornersY[3]));
+        float bottom = Math.max(Math.max(cornersY[0], cornersY[1]), Math.max(cornersY[2], cornersY[3]));
+        fill(top, bottom, argb, (sampleY, spans) -> {
+            float left = Float.POSITIVE_INFINITY;
+            float right = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < 4; i++) {
+                float fromX = cornersX[i];
+                float fromY = cornersY[i];
+                float toX = cornersX[(i + 1) % 4];
+                float toY = cornersY[(i + 1) % 4];
+                if ((sampleY >= fromY) != (sampleY >= toY)) {
+                    float crossingX = fromX + (sampleY - fromY) * (toX - fromX) / (toY - fromY);
+                    left = Math.min(left, crossingX);
+                    right = Math.max(right, crossingX);
+                }
+            }
+            if (left >= right) {
+                return 0;
+            }
+            spans[0] = left;
+            spans[1] = right;
+            return 1;
+        });
+    }
+
+    public void fillOval(int x, int y, int ovalWidth, int ovalHeight, int argb) {
+        if (ovalWidth <= 0 || ovalHeight <= 0) {
+            return;
+        }
+        float radiusX = ovalWidth * scale / 2;
+        float radiusY = ovalHeight * scale / 2;
+        float centerX = x * scale + radiusX;
+        float centerY = y * scale + radiusY;
+        fill(centerY - radiusY, centerY + radiusY, argb, (sampleY, spans) -> {
+            float halfSpan = getOvalHalfSpan(sampleY - centerY, radiusX, radiusY);
+            spans[0] = centerX - halfSpan;
+            spans[1] = centerX + halfSpan;
+            return 1;
+        });
+    }
+
+    public void strokeOval(int x, int y, int ovalWidth, int ovalHeight, float lineWidth, int argb) {
+        if (ovalWidth < 0 || ovalHeight < 0) {
+            return;
+        }
+        float halfWidth = lineWidth * scale / 2;
+        float left = normalize(x * scale);
+        float top = normalize(y * scale);
+        float radiusX = (normalize(((float) x + ovalWidth) * scale) - left) / 2;
+        float radiusY = (normalize(((float) y + ovalHeight) * scale) - top) / 2;
+        float centerX = left + radiusX;
+        float centerY = top + radiusY;
+        float outerRadiusX = radiusX + halfWidth;
+        float outerRadiusY = radiusY + halfWidth;
+        float innerRadiusX = radiusX - halfWidth;
+        float innerRadiusY = radiusY - halfWidth;
+        boolean hollow = innerRadiusX > 0 && innerRadiusY > 0;
+        fill(centerY - outerRadiusY, centerY + outerRadiusY, argb, (sampleY, spans) -> {
+            float offsetY = sampleY - centerY;
+            float outerHalfSpan = getOvalHalfSpan(offsetY, outerRadiusX, outerRadiusY);
+            if (hollow && Math.abs(offsetY) < innerRadiusY) {
+                float innerHalfSpan = getOvalHalfSpan(offsetY, innerRadiusX, innerRadiusY);
+                spans[0] = centerX - outerHalfSpan;
+                spans[1] = centerX - innerHalfSpan;
+                spans[2] = centerX + innerHalfSpan;
+                spans[3] = centerX + outerHalfSpan;
+                return 2;
+            }
+            spans[0] = centerX - outerHalfSpan;
+            spans[1] = centerX + outerHalfSpan;
+            return 1;
+        });
+    }
+
+    public void fillRoundRect(int x, int y, int rectWidth, int rectHeight, int arcWidth, int arcHeight, int argb) {
+        if (rectWidth <= 0 || rectHeight <= 0) {
+            return;
+        }
+        float left = x * scale;
+        float right = ((float) x + rectWidth) * scale;
+        float top = y * scale;
+        float bottom = ((float) y + rectHeight) * scale;
+        float arcRadiusX = Math.min(Math.abs(arcWidth), rectWidth) * scale / 2;
+        float arcRadiusY = Math.min(Math.abs(arcHeight), rectHeight) * scale / 2;
+        fill(top, bottom, argb, (sampleY, spans) -> {
+            float inset = getRoundRectInset(sampleY, top, bottom, arcRadiusX, arcRadiusY);
+            spans[0] = left + inset;
+            spans[1] = right - inset;
+            return 1;
+        });
+    }
+
+    public void strokeRoundRect(int x, int y, int rectWidth, int rectHeight, int arcWidth, int arcHeight, float lineWidth, int argb) {
+        if (rectWidth < 0 || rectHeight < 0) {
+            return;
+        }
+        float halfWidth = lineWidth * scale / 2;
+        float left = normalize(x * scale);
+        float top = normalize(y * scale);
+        float right = normalize(((float) x + rectWidth) * scale);
+        float bottom = normalize(((float) y + rectHeight) * scale);
+        float arcRadiusX = Math.min(Math.abs(arcWidth), rectWidth) * scale / 2;
+        float arcRadiusY = Math.min(Math.abs(arcHeight), rectHeight) * scale / 2;
+
+        float outerTop = top - halfWidth;
+        float outerBottom = bottom + halfWidth;
+        float outerArcRadiusX = arcRadiusX > 0 && arcRadiusY > 0 ? arcRadiusX + halfWidth : 0;
+        float outerArcRadiusY = arcRadiusX > 0 && arcRadiusY > 0 ? arcRadiusY + halfWidth : 0;
+        float innerTop = top + halfWidth;
+        float innerBottom = bottom - halfWidth;
+        float innerArcRadiusX = Math.max(0, arcRadiusX - halfWidth);
+        float innerArcRadiusY = Math.max(0, arcRadiusY - halfWidth);
+        boolean hollow = left + halfWidth < right - halfWidth && innerTop < innerBottom;
+        fill(outerTop, outerBottom, argb, (sampleY, spans) -> {
+            float outerInset = getRoundRectInset(sampleY, outerTop, outerBottom, outerArcRadiusX, outerArcRadiusY);
+            if (hollow && sampleY >= innerTop && sampleY < innerBottom) {
+                float innerInset = halfWidth + getRoundRectInset(sampleY, innerTop, innerBottom, innerArcRadiusX, innerArcRadiusY);
+                spans[0] = left - halfWidth + outerInset;
+                spans[1] = left + innerInset;
+                spans[2] = right - innerInset;
+                spans[3] = right + halfWidth - outerInset;
+                return 2;
+            }
+            spans[0] = left - halfWidth + outerInset;
+            spans[1] = right + halfWidth - outerInset;
+            return 1;
+        });
+    }
+
+    private void setRect(int index, float left, float top, float right, float bottom) {
+        rects[index * 4] = left;
+        rects[index * 4 + 1] = top;
+        rects[index * 4 + 2] = right;
+        rects[index * 4 + 3] = bottom;
+    }
+
+    private void fillRects(int rectCount, int argb) {
+        int alpha = argb >>> 24;
+        if (alpha == 0) {
+            return;
+        }
+
+        float top = Float.POSITIVE_INFINITY;
+        float bottom = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < rectCount; i++) {
+            top = Math.min(top, rects[i * 4 + 1]);
+            bottom = Math.max(bottom, rects[i * 4 + 3]);
+        }
+
+        int firstRow = (int) Math.max(clipTop, Math.floor(top));
+        int lastRow = (int) Math.min(clipBottom, Math.ceil(bottom));
+        for (int row = firstRow; row < lastRow; row++) {
+            for (int i = 0; i < rectCount; i++) {
+                float rowCoverage = Math.min(row + 1, rects[i * 4 + 3]) - Math.max(row, rects[i * 4 + 1]);
+                if (rowCoverage > 0) {
+                    addRectCoverage(row, rects[i * 4], rects[i * 4 + 2], rowCoverage, argb, alpha);
+                }
+            }
+            blendRow(row, argb, alpha);
+        }
+    }
+
+    private void addRectCoverage(int row, float left, float right, float rowCoverage, int argb, int alpha) {
+        left = Math.max(clipLeft, left);
+        right = Math.min(clipRight, right);
+        int solidLeft = (int) Math.ceil(left);
+        int solidRight = (int) Math.floor(right);
+        if (rowCoverage >= 1 && alpha == 255 && solidLeft < solidRight) {
+            int rowStart = row * width;
+            Arrays.fill(pixels, rowStart + solidLeft, rowStart + solidRight, argb);
+            addCoverage(left, solidLeft, rowCoverage);
+            addCoverage(solidRight, right, rowCoverage);
+        } else {
+            addCoverage(left, right, rowCoverage);
+        }
+    }
+
+    private void fill(float top, float bottom, int argb, SpanFunction spanFunction) {
+        int alpha = argb >>> 24;
+        if (alpha == 0) {
+            return;
+        }
+
+        int firstRow = (int) Math.max(clipTop, Math.floor(top));
+        int lastRow = (int) Math.min(clipBottom, Math.ceil(bottom));
+        for (int row = firstRow; row < lastRow; row++) {
+            for (int sample = 0; sample < SUBSAMPLES; sample++) {
+                float sampleY = row + (sample + 0.5f) * SUBSAMPLE_WEIGHT;
+                if (sampleY >= top && sampleY < bottom) {
+                    int spanCount = spanFunction.getSpans(sampleY, spans);
+                    for (int i = 0; i < spanCount; i++) {
+                        addCoverage(Math.max(clipLeft, spans[i * 2]), Math.min(clipRight, spans[i * 2 + 1]), SUBSAMPLE_WEIGHT);
+                    }
+                }
+            }
+            blendRow(row, argb, alpha);
+        }
+    }
+
+    private void addCoverage(float left, float right, float weight) {
+        if (right <= left) {
+            return;
+        }
+
+        int leftPixel = (int) left;
+        int rightPixel = (int) right;
+        coverageLeft = Math.min(coverageLeft, leftPixel);
+        coverageRight = Math.max(coverageRight, Math.min(clipRight - 1, rightPixel));
+        if (leftPixel == rightPixel) {
+            coverage[leftPixel] += (right - left) * weight;
+            return;
+        }
+
+        coverage[leftPixel] += (leftPixel + 1 - left) * weight;
+        for (int i = leftPixel + 1; i < rightPixel; i++) {
+            coverage[i] += weight;
+        }
+        if (rightPixel < clipRight) {
+            coverage[rightPixel] += (right - rightPixel) * weight;
+        }
+    }
+
+    private void blendRow(int row, int argb, int alpha) {
+        int rowStart = row * width;
+        int red = (argb >> 16) & 0xff;
+        int green = (argb >> 8) & 0xff;
+        int blue = argb & 0xff;
+        for (int i = coverageLeft; i <= coverageRight; i++) {
+            float pixelCoverage = coverage[i];
+            if (pixelCoverage > 0) {
+                coverage[i] = 0;
+                int sourceAlpha = Math.round(alpha * Math.min(1f, pixelCoverage));
+                if (sourceAlpha >= 255) {
+                    pixels[rowStart + i] = argb | 0xff000000;
+                } else if (sourceAlpha > 0) {
+                    int destination = pixels[rowStart + i];
+                    int inverseAlpha = 255 - sourceAlpha;
+                    int resultRed = (red * sourceAlpha + ((destination >> 16) & 0xff) * inverseAlpha + 127) / 255;
+                    int resultGreen = (green * sourceAlpha + ((destination >> 8) & 0xff) * inverseAlpha + 127) / 255;
+                    int resultBlue = (blue * sourceAlpha + (destination & 0xff) * inverseAlpha + 127) / 255;
+                    pixels[rowStart + i] = 0xff000000 | (resultRed << 16) | (resultGreen << 8) | resultBlue;
+                }
+            }
+        }
+        resetCoverageBounds();
+    }
+
+    private void resetCoverageBounds() {
+        coverageLeft = clipRight;
+        coverageRight = clipLeft - 1;
+    }
+
+    private static float getOvalHalfSpan(float offsetY, float radiusX, float radiusY) {
+        float dy = offsetY / radiusY;
+        return radiusX * (float) Math.sqrt(Math.max(0, 1 - dy * dy));
+    }
+
+    private static float getRoundRectInset(float sampleY, float top, float bottom, float arcRadiusX, float arcRadiusY) {
+        if (arcRadiusY <= 0) {
+            return 0;
+        }
+        float arcDistance = Math.max(top + arcRadiusY - sampleY, sampleY - (bottom - arcRadiusY));
+        if (arcDistance <= 0) {
+            return 0;
+        }
+        float dy = Math.min(1, arcDistance / arcRadiusY);
+        return arcRadiusX * (1 - (float) Math.sqrt(1 - dy * dy));
+    }
+
+    private static float normalize(float coordinate) {
+        return (float) Math.floor(coordinate) + 0.5f;
+    }
+
+    private interface SpanFunction {
+        int getSpans(float sampleY, float[] spans);
+    }
+}
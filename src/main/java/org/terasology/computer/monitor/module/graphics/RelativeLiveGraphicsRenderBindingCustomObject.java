@@ -10,8 +10,10 @@ import org.joml.Vector3f;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.terasology.computer.context.ComputerCallback;
+import org.terasology.computer.display.DisplayCommandLog;
 import org.terasology.computer.display.component.DisplayComponent;
 import org.terasology.computer.display.system.server.DisplayServerSystem;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.monitor.module.EntityRenderCommandSink;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.math.Direction;
@@ -19,16 +21,19 @@ import org.terasology.multiBlock2.MultiBlockRegistry;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 public class RelativeLiveGraphicsRenderBindingCustomObject implements CustomObject, GraphicsRenderBinding {
     private MultiBlockRegistry multiBlockRegistry;
+    private DisplayWriteBuffer displayWriteBuffer;
     private Direction direction;
     private String mode;
     private Vector2i resolution;
 
-    public RelativeLiveGraphicsRenderBindingCustomObject(MultiBlockRegistry multiBlockRegistry, Direction direction, String mode,
-                                                         int width, int height) {
+    public RelativeLiveGraphicsRenderBindingCustomObject(MultiBlockRegistry multiBlockRegistry, DisplayWriteBuffer displayWriteBuffer,
+                                                         Direction direction, String mode, int width, int height) {
         this.multiBlockRegistry = multiBlockRegistry;
+        this.displayWriteBuffer = displayWriteBuffer;
         this.direction = direction;
         this.mode = mode;
         this.resolution = new Vector2i(width, height);
@@ -66,7 +71,7 @@ public class RelativeLiveGraphicsRenderBindingCustomObject implements CustomObje
         private String modePrefix;
 
         private EntityGraphicsRenderCommandSink(EntityRef entityRef, String modePrefix) {
-            super(entityRef);
+            super(entityRef, displayWriteBuffer);
             this.entityRef = entityRef;
             this.modePrefix = modePrefix;
         }
@@ -94,6 +99,21 @@ public class RelativeLiveGraphicsRenderBindingCustomObject implements CustomObje
             return modePrefix + res.x + "," + res.y;
         }
 
+        @Override
+        protected List<String> compactData(List<String> existingData, List<String> data) {
+            return GraphicsCommandCompactor.compact(existingData, data, resolution.x, resolution.y);
+        }
+
+        @Override
+        protected void compactAppended(DisplayCommandLog commandLog, int firstAppended) {
+            GraphicsCommandCompactor.compactAppended(commandLog, firstAppended, resolution.x, resolution.y);
+        }
+
+        @Override
+        public GraphicsPaintTable getPaintTable(int line) throws ExecutionException {
+            return GraphicsPaintTable.of(getCommandLog(line));
+        }
+
         @Override
         public Vector2i getResolution() {
             return resolution;
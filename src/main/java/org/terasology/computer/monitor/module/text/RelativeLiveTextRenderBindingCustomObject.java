@@ -11,8 +11,10 @@ import org.joml.Vector3f;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.terasology.computer.context.ComputerCallback;
+import org.terasology.computer.display.DisplayCharacterGrid;
 import org.terasology.computer.display.component.DisplayComponent;
 import org.terasology.computer.display.system.server.DisplayServerSystem;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.monitor.module.EntityRenderCommandSink;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.math.Direction;
@@ -23,11 +25,14 @@ import java.util.Collections;
 
 public class RelativeLiveTextRenderBindingCustomObject implements CustomObject, TextRenderBinding {
     private MultiBlockRegistry multiBlockRegistry;
+    private DisplayWriteBuffer displayWriteBuffer;
     private Direction direction;
     private String mode;
 
-    public RelativeLiveTextRenderBindingCustomObject(MultiBlockRegistry multiBlockRegistry, Direction direction, String mode) {
+    public RelativeLiveTextRenderBindingCustomObject(MultiBlockRegistry multiBlockRegistry, DisplayWriteBuffer displayWriteBuffer,
+                                                     Direction direction, String mode) {
         this.multiBlockRegistry = multiBlockRegistry;
+        this.displayWriteBuffer = displayWriteBuffer;
         this.direction = direction;
         this.mode = mode;
     }
@@ -56,15 +61,15 @@ public class RelativeLiveTextRenderBindingCustomObject implements CustomObject,
             throw new ExecutionException(line, "Unable to locate device that could be rendered on");
         }
 
-        return new EntityTextRenderCommandSink(monitorEntity, mode);
+        return new EntityTextRenderCommandSink(monitorEntity, displayWriteBuffer, mode);
     }
 
     private static final class EntityTextRenderCommandSink extends EntityRenderCommandSink implements TextRenderCommandSink {
         private EntityRef entityRef;
         private String modePrefix;
 
-        private EntityTextRenderCommandSink(EntityRef entityRef, String modePrefix) {
-            super(entityRef);
+        private EntityTextRenderCommandSink(EntityRef entityRef, DisplayWriteBuffer displayWriteBuffer, String modePrefix) {
+            super(entityRef, displayWriteBuffer);
             this.entityRef = entityRef;
             this.modePrefix = modePrefix;
         }
@@ -94,5 +99,11 @@ public class RelativeLiveTextRenderBindingCustomObject implements CustomObject,
 
             return new Vector2i(charsInLine, lineCount);
         }
+
+        @Override
+        public DisplayCharacterGrid getCharacterGrid(int line) throws ExecutionException {
+            Vector2ic maxCharacters = getMaxCharacters();
+            return getCharacterGrid(line, maxCharacters.x(), maxCharacters.y());
+        }
     }
 }
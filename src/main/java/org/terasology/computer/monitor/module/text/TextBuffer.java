@@ -3,10 +3,12 @@
 package org.terasology.computer.monitor.module.text;
 
 import org.joml.Vector2i;
+import org.terasology.computer.display.DisplayCharacterGrid;
 
 import java.util.List;
 
 public interface TextBuffer {
     Vector2i getSize();
     List<String> getData();
+    DisplayCharacterGrid getCharacterGrid();
 }
@@ -4,14 +4,11 @@ package org.terasology.computer.monitor.module.text;
 
 import com.gempukku.lang.ExecutionException;
 import com.gempukku.lang.Variable;
-import org.joml.Vector2i;
 import org.terasology.computer.context.ComputerCallback;
 import org.terasology.computer.monitor.module.graphics.GraphicsRenderBindingValidator;
 import org.terasology.computer.monitor.module.graphics.GraphicsRenderCommandSink;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class TextClearMethod extends AbstractModuleMethodExecutable<Object> {
@@ -52,16 +49,7 @@ public class TextClearMethod extends AbstractModuleMethodExecutable<Object> {
         TextRenderCommandSink renderCommandSink = TextRenderBindingValidator.validateTextRenderBinding(
                 line, computer, parameters, "renderBinding", methodName);
 
-        Vector2i maxCharacters = new Vector2i(renderCommandSink.getMaxCharacters());
-
-        int lineCount = maxCharacters.y;
-
-        List<String> result = new ArrayList<>(lineCount);
-        for (int i = 0; i < lineCount; i++) {
-            result.add("");
-        }
-
-        renderCommandSink.setData(line, result);
+        renderCommandSink.getCharacterGrid(line).clear();
 
         return null;
     }
@@ -2,85 +2,98 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.monitor.module.text;
 
+import org.joml.Vector2i;
+import org.terasology.computer.display.system.client.DisplayRaster;
 import org.terasology.computer.display.system.client.DisplayRenderer;
 import org.terasology.engine.rendering.assets.font.Font;
-import org.terasology.engine.rendering.assets.font.FontCharacter;
-import org.terasology.engine.rendering.assets.material.Material;
-import org.terasology.engine.rendering.assets.material.MaterialData;
-import org.terasology.engine.rendering.assets.texture.Texture;
-import org.terasology.engine.rendering.assets.texture.TextureData;
-import org.terasology.engine.rendering.assets.texture.TextureUtil;
 import org.terasology.engine.utilities.Assets;
 
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TextDisplayRenderer implements DisplayRenderer {
+    private static final int CHARACTER_WIDTH = 8;
+    private static final int CHARACTER_HEIGHT = 16;
+
     private Font font = Assets.getFont("ModularComputers:November").get();
-    private BufferedImage fontImage = TextureUtil.convertToImage(font.getCharacterData(' ').getPage());
-    private int fontImageWidth = fontImage.getWidth();
-    private int fontImageHeight = fontImage.getHeight();
+    private Map<Integer, TextGlyphCache> glyphCaches = new ConcurrentHashMap<>();
 
-    private int characterWidth = 8;
-    private int characterHeight = 16;
+    @Override
+    public Vector2i getResolution(String mode) {
+        Vector2i size = getCharacterSize(mode);
+        return new Vector2i(size.x * CHARACTER_WIDTH, size.y * CHARACTER_HEIGHT);
+    }
 
     @Override
-    public Material renderMaterial(String mode, List<String> data) {
-        String[] size = mode.split(":")[1].split(",");
-        int width = Integer.parseInt(size[0]);
-        int height = Integer.parseInt(size[1]);
+    public void render(DisplayRaster raster, String mode, List<String> data) {
+        Vector2i size = getCharacterSize(mode);
+        int width = size.x;
+        int height = size.y;
 
-        int pixelWidth = width * characterWidth;
-        int pixelHeight = height * characterHeight;
+        TextGlyphCache glyphCache = glyphCaches.computeIfAbsent(raster.getDownscale(),
+                downscale -> new TextGlyphCache(font, CHARACTER_WIDTH, CHARACTER_HEIGHT, downscale));
 
-        BufferedImage image = new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D gr = (Graphics2D) image.getGraphics();
-        try {
-//            gr.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-//            gr.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-//            gr.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        TextScreen screen;
+        if (raster.getRendererState() instanceof TextScreen && ((TextScreen) raster.getRendererState()).mode.equals(mode)) {
+            screen = (TextScreen) raster.getRendererState();
+        } else {
+            screen = new TextScreen(mode, width, height);
+            raster.setRendererState(screen);
+            raster.setRgbaPixels(true);
+        }
 
-            gr.setColor(Color.BLACK);
-            gr.fillRect(0, 0, pixelWidth, pixelHeight);
+        for (int y = 0; y < height; y++) {
+            String line = getLine(data, y);
+            if (!line.equals(screen.lines[y])) {
+                renderLine(raster, glyphCache, screen, y, line);
+                screen.lines[y] = line;
+            }
+        }
+    }
 
-            int lineCount = data.size();
-            for (int y = 0; y < lineCount; y++) {
-                String line = data.get(y);
-                char[] chars = line.toCharArray();
-                for (int x = 0; x < chars.length; x++) {
-                    FontCharacter character = font.getCharacterData(chars[x]);
+    private void renderLine(DisplayRaster raster, TextGlyphCache glyphCache, TextScreen screen, int y, String line) {
+        int[] pixels = raster.getPixels();
+        int pixelWidth = raster.getWidth();
+        int tileWidth = glyphCache.getTileWidth();
+        int tileHeight = glyphCache.getTileHeight();
+        int lineTop = y * tileHeight;
+        int lineLength = line.length();
 
-                    if (character != null) {
-                        int top = y * characterHeight + character.getyOffset();
-                        int bottom = top + character.getHeight();
-                        int left = x * characterWidth + character.getxOffset();
-                        int right = left + character.getWidth();
+        for (int x = 0; x < screen.columns; x++) {
+            int[] tile = x < lineLength ? glyphCache.getTile(line.charAt(x)) : glyphCache.getBlankTile();
+            int destination = lineTop * pixelWidth + x * tileWidth;
+            for (int row = 0; row < tileHeight; row++) {
+                System.arraycopy(tile, row * tileWidth, pixels, destination, tileWidth);
+                destination += pixelWidth;
+            }
+        }
+    }
 
-                        int texTop = Math.round(fontImageHeight * character.getY());
-                        int texBottom = texTop + Math.round(fontImageHeight * character.getTexHeight());
-                        int texLeft = Math.round(fontImageWidth * character.getX());
-                        int texRight = texLeft + Math.round(fontImageWidth * character.getTexWidth());
+    private Vector2i getCharacterSize(String mode) {
+        String[] size = mode.split(":")[1].split(",");
+        return new Vector2i(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    }
 
-                        gr.drawImage(fontImage, left, top, right, bottom, texLeft, texTop, texRight, texBottom, null);
-                    }
-                }
+    private String getLine(List<String> data, int y) {
+        if (data != null && y < data.size()) {
+            String line = data.get(y);
+            if (line != null) {
+                return line;
             }
-        } finally {
-            gr.dispose();
         }
+        return "";
+    }
 
-        ByteBuffer resultBuffer = TextureUtil.convertToByteBuffer(image);
-
-        Texture texture = Assets.generateAsset(new TextureData(pixelWidth, pixelHeight, new ByteBuffer[]{resultBuffer},
-                Texture.WrapMode.REPEAT, Texture.FilterMode.NEAREST), Texture.class);
+    private static final class TextScreen {
+        private final String mode;
+        private final int columns;
+        private final String[] lines;
 
-        MaterialData terrainMatData = new MaterialData(Assets.getShader("engine:genericMeshMaterial").get());
-        terrainMatData.setParam("diffuse", texture);
-        terrainMatData.setParam("colorOffset", new float[]{1, 1, 1});
-        terrainMatData.setParam("textured", true);
-        return Assets.generateAsset(terrainMatData, Material.class);
+        private TextScreen(String mode, int columns, int lineCount) {
+            this.mode = mode;
+            this.columns = columns;
+            this.lines = new String[lineCount];
+        }
     }
 }
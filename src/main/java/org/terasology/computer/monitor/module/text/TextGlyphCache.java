@@ -0,0 +1,118 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.computer.monitor.module.text;
+
+import org.terasology.computer.display.system.client.DisplayRaster;
+import org.terasology.engine.rendering.assets.font.Font;
+import org.terasology.engine.rendering.assets.font.FontCharacter;
+import org.terasology.engine.rendering.assets.texture.TextureUtil;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TextGlyphCache {
+    private static final int PRELOADED_CHARACTER_COUNT = 256;
+    private static final int RGBA_BLACK = DisplayRaster.toRgba(0xff000000);
+
+    private final Font font;
+    private final BufferedImage fontImage;
+    private final int characterWidth;
+    private final int characterHeight;
+    private final int downscale;
+    private final int tileWidth;
+    private final int tileHeight;
+
+    private final int[] blankTile;
+    private final int[][] preloadedTiles = new int[PRELOADED_CHARACTER_COUNT][];
+    private final Map<Character, int[]> otherTiles = new ConcurrentHashMap<>();
+
+    public TextGlyphCache(Font font, int characterWidth, int characterHeight, int downscale) {
+        this.font = font;
+        this.fontImage = TextureUtil.convertToImage(font.getCharacterData(' ').getPage());
+        this.characterWidth = characterWidth;
+        this.characterHeight = characterHeight;
+        this.downscale = downscale;
+        this.tileWidth = Math.max(1, characterWidth / downscale);
+        this.tileHeight = Math.max(1, characterHeight / downscale);
+
+        blankTile = new int[tileWidth * tileHeight];
+        Arrays.fill(blankTile, RGBA_BLACK);
+
+        for (int i = 0; i < PRELOADED_CHARACTER_COUNT; i++) {
+            preloadedTiles[i] = createTile((char) i);
+        }
+    }
+
+    public int getCharacterWidth() {
+        return characterWidth;
+    }
+
+    public int getCharacterHeight() {
+        return characterHeight;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public int[] getBlankTile() {
+        return blankTile;
+    }
+
+    public int[] getTile(char character) {
+        if (character < PRELOADED_CHARACTER_COUNT) {
+            return preloadedTiles[character];
+        }
+        return otherTiles.computeIfAbsent(character, this::createTile);
+    }
+
+    private int[] createTile(char c) {
+        FontCharacter character = font.getCharacterData(c);
+        if (character == null) {
+            return blankTile;
+        }
+
+        int fontImageWidth = fontImage.getWidth();
+        int fontImageHeight = fontImage.getHeight();
+
+        int top = character.getyOffset();
+        int bottom = top + character.getHeight();
+        int left = character.getxOffset();
+        int right = left + character.getWidth();
+
+        int texTop = Math.round(fontImageHeight * character.getY());
+        int texBottom = texTop + Math.round(fontImageHeight * character.getTexHeight());
+        int texLeft = Math.round(fontImageWidth * character.getX());
+        int texRight = texLeft + Math.round(fontImageWidth * character.getTexWidth());
+
+        BufferedImage tileImage = new BufferedImage(tileWidth, tileHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D gr = (Graphics2D) tileImage.getGraphics();
+        try {
+            gr.setColor(Color.BLACK);
+            gr.fillRect(0, 0, tileWidth, tileHeight);
+            if (downscale > 1) {
+                gr.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                gr.scale((double) tileWidth / characterWidth, (double) tileHeight / characterHeight);
+            }
+            gr.drawImage(fontImage, left, top, right, bottom, texLeft, texTop, texRight, texBottom, null);
+        } finally {
+            gr.dispose();
+        }
+
+        int[] tile = ((DataBufferInt) tileImage.getRaster().getDataBuffer()).getData();
+        for (int i = 0; i < tile.length; i++) {
+            tile[i] = DisplayRaster.toRgba(tile[i]);
+        }
+        return tile;
+    }
+}
@@ -6,18 +6,20 @@ import com.gempukku.lang.CustomObject;
 import com.gempukku.lang.ExecutionException;
 import org.joml.Vector2i;
 import org.terasology.computer.context.ComputerCallback;
+import org.terasology.computer.display.DisplayCharacterGrid;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public class TextOffScreenBuffer implements CustomObject, TextRenderBinding, TextBuffer, TextRenderCommandSink {
     private Vector2i size;
-    private List<String> data = new ArrayList<>();
+    private DisplayCharacterGrid characterGrid;
 
     public TextOffScreenBuffer(Vector2i size) {
         this.size = size;
+        characterGrid = new DisplayCharacterGrid(size.x, size.y);
     }
 
     @Override
@@ -47,7 +49,17 @@ public class TextOffScreenBuffer implements CustomObject, TextRenderBinding, Tex
 
     @Override
     public List<String> getData() {
-        return data;
+        return characterGrid.toLines();
+    }
+
+    @Override
+    public DisplayCharacterGrid getCharacterGrid() {
+        return characterGrid;
+    }
+
+    @Override
+    public DisplayCharacterGrid getCharacterGrid(int line) {
+        return characterGrid;
     }
 
     @Override
@@ -57,11 +69,27 @@ public class TextOffScreenBuffer implements CustomObject, TextRenderBinding, Tex
 
     @Override
     public List<String> getExistingData(int line) {
-        return data;
+        return characterGrid.toLines();
     }
 
     @Override
     public void setData(int line, List<String> dataList) {
-        this.data = dataList;
+        characterGrid.load(dataList);
+    }
+
+    @Override
+    public void append(int line, String command) throws ExecutionException {
+        appendAll(line, Collections.singletonList(command));
+    }
+
+    @Override
+    public void appendAll(int line, List<String> commands) throws ExecutionException {
+        int firstRow = characterGrid.getLineCount();
+        if (firstRow + commands.size() > size.y) {
+            throw new ExecutionException(line, "Text will not fit in the buffer vertically");
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            characterGrid.setLine(firstRow + i, commands.get(i));
+        }
     }
 }
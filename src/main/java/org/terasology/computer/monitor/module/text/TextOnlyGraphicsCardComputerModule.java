@@ -2,14 +2,16 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.monitor.module.text;
 
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.module.DefaultComputerModule;
 import org.terasology.multiBlock2.MultiBlockRegistry;
 
 public class TextOnlyGraphicsCardComputerModule extends DefaultComputerModule {
-    public TextOnlyGraphicsCardComputerModule(MultiBlockRegistry multiBlockRegistry, String moduleType, String moduleName) {
+    public TextOnlyGraphicsCardComputerModule(MultiBlockRegistry multiBlockRegistry, DisplayWriteBuffer displayWriteBuffer,
+                                              String moduleType, String moduleName) {
         super(moduleType, moduleName);
 
-        addMethod("getRenderBinding", new TextRenderBindingMethod("getRenderBinding", multiBlockRegistry));
+        addMethod("getRenderBinding", new TextRenderBindingMethod("getRenderBinding", multiBlockRegistry, displayWriteBuffer));
         addMethod("setCharacters", new TextSetCharactersMethod("setCharacters"));
         addMethod("clear", new TextClearMethod("clear"));
         addMethod("createOffScreenBuffer", new TextCreateOffScreenBufferMethod("createOffScreenBuffer"));
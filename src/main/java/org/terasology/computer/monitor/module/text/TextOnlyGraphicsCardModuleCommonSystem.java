@@ -3,6 +3,7 @@
 package org.terasology.computer.monitor.module.text;
 
 import org.terasology.computer.display.system.client.DisplayRenderModeRegistry;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.system.common.ComputerLanguageRegistry;
 import org.terasology.computer.system.common.ComputerModuleRegistry;
 import org.terasology.computer.ui.documentation.DocumentationBuilder;
@@ -30,6 +31,8 @@ public class TextOnlyGraphicsCardModuleCommonSystem extends BaseComponentSystem
     @In
     private DisplayRenderModeRegistry displayRenderModeRegistry;
     @In
+    private DisplayWriteBuffer displayWriteBuffer;
+    @In
     private ComputerLanguageRegistry computerLanguageRegistry;
     @In
     private ModuleConfigManager moduleConfigManager;
@@ -56,7 +59,8 @@ public class TextOnlyGraphicsCardModuleCommonSystem extends BaseComponentSystem
 
             computerModuleRegistry.registerComputerModule(
                     TEXT_GRAPHICS_CARD_MODULE_TYPE,
-                    new TextOnlyGraphicsCardComputerModule(multiBlockRegistry, TEXT_GRAPHICS_CARD_MODULE_TYPE, "Text Graphics Card"),
+                    new TextOnlyGraphicsCardComputerModule(multiBlockRegistry, displayWriteBuffer,
+                            TEXT_GRAPHICS_CARD_MODULE_TYPE, "Text Graphics Card"),
                     "This module allows computer to render text on displays.",
                     null);
         }
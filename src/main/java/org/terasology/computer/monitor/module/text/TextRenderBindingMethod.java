@@ -6,6 +6,7 @@ import com.gempukku.lang.ExecutionException;
 import com.gempukku.lang.Variable;
 import org.terasology.computer.FunctionParamValidationUtil;
 import org.terasology.computer.context.ComputerCallback;
+import org.terasology.computer.display.system.server.DisplayWriteBuffer;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 import org.terasology.engine.math.Direction;
 import org.terasology.multiBlock2.MultiBlockRegistry;
@@ -15,11 +16,13 @@ import java.util.Map;
 public class TextRenderBindingMethod extends AbstractModuleMethodExecutable<Object> {
     private final String methodName;
     private MultiBlockRegistry multiBlockRegistry;
+    private DisplayWriteBuffer displayWriteBuffer;
 
-    public TextRenderBindingMethod(String methodName, MultiBlockRegistry multiBlockRegistry) {
+    public TextRenderBindingMethod(String methodName, MultiBlockRegistry multiBlockRegistry, DisplayWriteBuffer displayWriteBuffer) {
         super("Creates a Text Render Binding that allows to render text on a display.",
                 "TextRenderBinding", "Binding that can be used to render text on.");
         this.multiBlockRegistry = multiBlockRegistry;
+        this.displayWriteBuffer = displayWriteBuffer;
         this.methodName = methodName;
 
         addParameter("direction", "Direction", "Specifies direction of the display relative to computer.");
@@ -47,6 +50,6 @@ public class TextRenderBindingMethod extends AbstractModuleMethodExecutable<Obje
         Direction direction = FunctionParamValidationUtil.validateDirectionParameter(line, parameters,
                 "direction", methodName);
 
-        return new RelativeLiveTextRenderBindingCustomObject(multiBlockRegistry, direction, "Text:");
+        return new RelativeLiveTextRenderBindingCustomObject(multiBlockRegistry, displayWriteBuffer, direction, "Text:");
     }
 }
@@ -69,7 +69,7 @@ public class TextRenderBufferMethod extends AbstractModuleMethodExecutable<Objec
             throw new ExecutionException(line, "OffScreenBuffer does not fit on the screen");
         }
 
-        renderCommandSink.setData(line, textBuffer.getData());
+        renderCommandSink.getCharacterGrid(line).copyFrom(textBuffer.getCharacterGrid());
 
         return null;
     }
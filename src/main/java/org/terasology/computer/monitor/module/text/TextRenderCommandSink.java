@@ -2,9 +2,13 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.computer.monitor.module.text;
 
+import com.gempukku.lang.ExecutionException;
 import org.joml.Vector2ic;
+import org.terasology.computer.display.DisplayCharacterGrid;
 import org.terasology.computer.monitor.module.RenderCommandSink;
 
 public interface TextRenderCommandSink extends RenderCommandSink {
     Vector2ic getMaxCharacters();
+
+    DisplayCharacterGrid getCharacterGrid(int line) throws ExecutionException;
 }
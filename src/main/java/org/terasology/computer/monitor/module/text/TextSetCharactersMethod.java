@@ -11,8 +11,6 @@ import org.terasology.computer.monitor.module.graphics.GraphicsRenderBindingVali
 import org.terasology.computer.monitor.module.graphics.GraphicsRenderCommandSink;
 import org.terasology.computer.system.server.lang.AbstractModuleMethodExecutable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class TextSetCharactersMethod extends AbstractModuleMethodExecutable<Object> {
@@ -71,52 +69,8 @@ public class TextSetCharactersMethod extends AbstractModuleMethodExecutable<Obje
             throw new ExecutionException(line, "Line index out of bounds " + y + ">=" + lineCount);
         }
 
-        List<String> oldLines = renderCommandSink.getExistingData(line);
-
-        List<String> result = new ArrayList<>(lineCount);
-        for (int i = 0; i < lineCount; i++) {
-            String oldLine = getLine(oldLines, i);
-            if (i == y) {
-                String before = getBefore(oldLine, x);
-                String after = getAfter(oldLine, x + text.length());
-                result.add(before + text + after);
-            } else {
-                result.add(oldLine);
-            }
-        }
-
-        renderCommandSink.setData(line, result);
+        renderCommandSink.getCharacterGrid(line).setCharacters(x, y, text);
 
         return null;
     }
-
-    private String getAfter(String line, int i) {
-        if (line.length() < i) {
-            return "";
-        }
-        return line.substring(i);
-    }
-
-    private String getBefore(String line, int x) {
-        if (line.length() < x) {
-            int lineLength = line.length();
-            StringBuilder sb = new StringBuilder(line);
-            for (int i = 0; i < lineLength - x; i++) {
-                sb.append(" ");
-            }
-            return sb.toString();
-        }
-        return line.substring(0, x);
-    }
-
-    private String getLine(List<String> lines, int y) {
-        if (y < lines.size()) {
-            String line = lines.get(y);
-            if (line == null) {
-                return "";
-            }
-            return line;
-        }
-        return "";
-    }
 }